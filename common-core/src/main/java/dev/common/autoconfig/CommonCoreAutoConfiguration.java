@@ -3,11 +3,13 @@ package dev.common.autoconfig;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Import;
 
-@AutoConfiguration
+// Before Spring Cloud's Feign auto-configuration so the pooled client defined here is the one used
+@AutoConfiguration(beforeName = "org.springframework.cloud.openfeign.FeignAutoConfiguration")
 @Import({
         CommonFeignAutoConfiguration.class,
         CommonExceptionHandlerAutoConfiguration.class,
-        CommonLogFilterAutoConfiguration.class
+        CommonLogFilterAutoConfiguration.class,
+        CommonVirtualThreadsAutoConfiguration.class
 })
 public class CommonCoreAutoConfiguration {
 }
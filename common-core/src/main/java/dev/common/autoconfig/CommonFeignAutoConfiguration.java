@@ -3,10 +3,37 @@ package dev.common.autoconfig;
 import dev.common.exceptionutils.exceptions.InternalServerException;
 import dev.common.feign.CustomFeignErrorDecoder;
 import dev.common.feign.FeignDefaultsProperties;
+import dev.common.feign.FeignResilienceProperties;
+import dev.common.feign.ResilientFeignClient;
+import feign.Client;
+import feign.Request;
 import feign.RequestInterceptor;
+import feign.Response;
 import feign.RetryableException;
 import feign.Retryer;
 import feign.codec.ErrorDecoder;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.routing.RoutingSupport;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -15,13 +42,21 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 @AutoConfiguration
 
 @ConditionalOnClass(FeignClient.class)
-@EnableConfigurationProperties(FeignDefaultsProperties.class)
+@EnableConfigurationProperties({FeignDefaultsProperties.class, FeignResilienceProperties.class})
 public class CommonFeignAutoConfiguration {
 
     private static final Logger log = LoggerFactory.getLogger(CommonFeignAutoConfiguration.class);
@@ -33,16 +68,152 @@ public class CommonFeignAutoConfiguration {
     }
 
 
+    /**
+     * Timeouts applied per request by the Feign client, unless a client overrides them through
+     * {@code spring.cloud.openfeign.client.config.<name>.*}.
+     */
     @Bean
-    public Retryer retryer() {
-        // Custom retryer: retry 2 times with 1 second interval
-        return new CustomRetryer(1000, 2000, 2);
+    @ConditionalOnMissingBean
+    public Request.Options feignRequestOptions(FeignDefaultsProperties properties) {
+        return new Request.Options(
+                properties.getConnectTimeout(), TimeUnit.MILLISECONDS,
+                properties.getReadTimeout(), TimeUnit.MILLISECONDS,
+                true);
     }
 
     /**
-     * Custom Retryer that converts final retry failures to our custom exception
+     * Pooled connections reused across requests, so calls between services do not pay a TCP
+     * handshake each time as they did with the default {@code HttpURLConnection} client.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public PoolingHttpClientConnectionManager feignConnectionManager(FeignDefaultsProperties properties) {
+        FeignDefaultsProperties.Pool pool = properties.getPool();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxConnections())
+                .setMaxConnPerRoute(pool.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeout()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(pool.getTimeToLiveMs()))
+                        .build())
+                .build();
+
+        pool.getRoutes().forEach((url, maxConnections) ->
+                connectionManager.setMaxPerRoute(toRoute(url), maxConnections));
+
+        return connectionManager;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager,
+                                               FeignDefaultsProperties properties) {
+        FeignDefaultsProperties.Pool pool = properties.getPool();
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(pool.getKeepAliveMs());
+
+        return HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                // Honour a shorter Keep-Alive sent by the server, never keep a connection longer than configured
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(keepAlive) && keepAlive.compareTo(maxKeepAlive) < 0 ? keepAlive : maxKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleEvictionMs()))
+                // Retries are left to the Feign retryer
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public Client feignClient(CloseableHttpClient feignHttpClient, FeignResilienceProperties resilienceProperties,
+                              CircuitBreakerRegistry feignCircuitBreakerRegistry,
+                              BulkheadRegistry feignBulkheadRegistry) {
+        Client client = new ApacheHttp5Client(feignHttpClient);
+        if (!resilienceProperties.isEnabled()) {
+            return client;
+        }
+        return new ResilientFeignClient(client, feignCircuitBreakerRegistry, feignBulkheadRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CircuitBreakerRegistry feignCircuitBreakerRegistry(FeignResilienceProperties properties) {
+        FeignResilienceProperties.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(circuitBreaker.getSlidingWindowSize())
+                .minimumNumberOfCalls(circuitBreaker.getMinimumNumberOfCalls())
+                .failureRateThreshold(circuitBreaker.getFailureRateThreshold())
+                .waitDurationInOpenState(Duration.ofMillis(circuitBreaker.getWaitDurationInOpenStateMs()))
+                .permittedNumberOfCallsInHalfOpenState(circuitBreaker.getPermittedCallsInHalfOpenState())
+                // 4xx responses are the caller's fault and leave the circuit alone
+                .recordResult(result -> result instanceof Response response && response.status() >= 500)
+                .build());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BulkheadRegistry feignBulkheadRegistry(FeignResilienceProperties properties) {
+        FeignResilienceProperties.Bulkhead bulkhead = properties.getBulkhead();
+
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(bulkhead.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ofMillis(bulkhead.getMaxWaitMs()))
+                .build());
+    }
+
+    /**
+     * Publishes pool usage (leased, available, pending connections) as {@code httpcomponents.httpclient.pool.*}
+     * meters when Micrometer is on the classpath.
+     */
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    static class FeignConnectionPoolMetricsConfiguration {
+
+        @Bean
+        public MeterBinder feignConnectionPoolMetrics(PoolingHttpClientConnectionManager feignConnectionManager) {
+            return new PoolingHttpClientConnectionManagerMetricsBinder(feignConnectionManager, "feign");
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass({MeterBinder.class, TaggedCircuitBreakerMetrics.class})
+    static class FeignResilienceMetricsConfiguration {
+
+        /**
+         * Circuit breaker state, failure rate and call outcomes per client as {@code resilience4j.circuitbreaker.*}.
+         */
+        @Bean
+        public MeterBinder feignCircuitBreakerMetrics(CircuitBreakerRegistry feignCircuitBreakerRegistry) {
+            return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(feignCircuitBreakerRegistry);
+        }
+
+        @Bean
+        public MeterBinder feignBulkheadMetrics(BulkheadRegistry feignBulkheadRegistry) {
+            return TaggedBulkheadMetrics.ofBulkheadRegistry(feignBulkheadRegistry);
+        }
+    }
+
+    @Bean
+    public Retryer retryer(FeignResilienceProperties properties) {
+        FeignResilienceProperties.Retry retry = properties.getRetry();
+        return new CustomRetryer(retry.getInitialIntervalMs(), retry.getMaxIntervalMs(), retry.getMaxAttempts());
+    }
+
+    /**
+     * Custom Retryer that retries idempotent methods only, with full-jitter exponential backoff,
+     * and converts final retry failures to our custom exception
      */
     public static class CustomRetryer implements Retryer {
+        private static final Set<Request.HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(
+                Request.HttpMethod.GET, Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS,
+                Request.HttpMethod.PUT, Request.HttpMethod.DELETE);
+
         private final long period;
         private final long maxPeriod;
         private final int maxAttempts;
@@ -56,6 +227,12 @@ public class CommonFeignAutoConfiguration {
 
         @Override
         public void continueOrPropagate(RetryableException e) {
+            if (!IDEMPOTENT_METHODS.contains(e.method())) {
+                // A POST may have reached the service before the failure, retrying could apply it twice
+                log.error("Feign call failed, {} is not retried: {}", e.method(), e.getMessage());
+                throw new InternalServerException("Unable to connect to downstream service. Please try again later.");
+            }
+
             if (attempt++ >= maxAttempts) {
                 log.error("Feign client max retries exceeded. Service may be down: {}", e.getMessage());
 
@@ -63,11 +240,12 @@ public class CommonFeignAutoConfiguration {
                 throw new InternalServerException("Unable to connect to downstream service. Please try again later.");
             }
 
-            long interval = nextMaxInterval();
+            // Full jitter: a random delay up to the backoff, so callers failing together do not retry together
+            long interval = ThreadLocalRandom.current().nextLong(nextMaxInterval() + 1);
             log.warn("Feign retry attempt {} of {} after {}ms delay", attempt, maxAttempts, interval);
 
             try {
-                Thread.sleep(interval);
+                sleep(interval);
             } catch (InterruptedException ignored) {
                 Thread.currentThread().interrupt();
                 throw new InternalServerException("Service connection interrupted");
@@ -75,10 +253,15 @@ public class CommonFeignAutoConfiguration {
         }
 
         private long nextMaxInterval() {
-            long interval = (long) (period * Math.pow(1.5, attempt - 1));
+            long interval = period << Math.min(attempt - 2, 20);
             return Math.min(interval, maxPeriod);
         }
 
+        // Overridden by tests to observe the backoff without waiting for it
+        void sleep(long interval) throws InterruptedException {
+            Thread.sleep(interval);
+        }
+
         @Override
         public Retryer clone() {
             return new CustomRetryer(period, maxPeriod, maxAttempts);
@@ -97,5 +280,15 @@ public class CommonFeignAutoConfiguration {
             }
         };
     }
-}
 
+    // ------------------ Helper methods ------------------
+
+    private static HttpRoute toRoute(String url) {
+        try {
+            HttpHost target = RoutingSupport.normalize(HttpHost.create(url), DefaultSchemePortResolver.INSTANCE);
+            return new HttpRoute(target, null, URIScheme.HTTPS.same(target.getSchemeName()));
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid Feign pool route: " + url, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package dev.common.autoconfig;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.common.concurrency.ConcurrencyLimitFilter;
+import dev.common.concurrency.ConcurrencyLimitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Active when {@code spring.threads.virtual.enabled=true} on Java 21+. Spring Boot then runs
+ * Tomcat requests, {@code @Async} methods and {@code @Scheduled} jobs on virtual threads, and
+ * Feign calls made from them block a virtual thread only. This adds the in-flight request
+ * limit that the Tomcat worker pool used to provide.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class CommonVirtualThreadsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "common.concurrency", name = "max-in-flight")
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                                         ObjectMapper objectMapper) {
+        return new ConcurrencyLimitFilter(properties, objectMapper);
+    }
+
+}
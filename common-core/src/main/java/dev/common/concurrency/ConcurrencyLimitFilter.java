@@ -0,0 +1,149 @@
+package dev.common.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.common.responseutils.model.ResponseDTO;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds the number of requests processed at once with a fair semaphore.
+ * <p>
+ * With one virtual thread per request thousands of requests can run together and all of them
+ * would queue on the JDBC pool, holding their memory until the pool timeout. Waiting here instead
+ * keeps the backlog cheap, and requests that cannot get a permit in time fail fast with 503.
+ * <p>
+ * An async request (e.g. a {@code StreamingResponseBody} download) keeps its permit until the async
+ * processing completes, errors or times out. Paths in {@code excluded-paths}, the actuator health
+ * probes by default, are never limited so a busy instance is not reported as down.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final List<String> excludedPaths;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(properties.getMaxInFlight(), true);
+        this.acquireTimeoutMs = properties.getAcquireTimeoutMs();
+        this.excludedPaths = List.copyOf(properties.getExcludedPaths());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludedPaths.stream().anyMatch(excluded -> path.equals(excluded) || path.startsWith(excluded + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        LocalDateTime landingTime = LocalDateTime.now();
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            log.warn("Concurrency limit reached | URI: {} | Method: {}", request.getRequestURI(), request.getMethod());
+            sendServiceUnavailable(request, response, landingTime);
+            return;
+        }
+
+        Permit permit = new Permit();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // The response is still being written on another thread, release once it is done. Completion is
+                // deferred until this dispatch returns, so the listener cannot miss it
+                request.getAsyncContext().addListener(permit);
+            } else {
+                permit.release();
+            }
+        }
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private void sendServiceUnavailable(HttpServletRequest request, HttpServletResponse response,
+                                        LocalDateTime landingTime) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ResponseDTO body = ResponseDTO.builder()
+                .landingTime(landingTime)
+                .responseTime(LocalDateTime.now())
+                .errorMessage("Server is busy, please try again later")
+                .errorCode(status.name())
+                .status(status.name())
+                .statusCode(status.value())
+                .endpoint(request.getRequestURI())
+                .build();
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * One acquired permit, released at most once whichever of the async callbacks fire.
+     */
+    private final class Permit implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A new async cycle on the same request, the listener must be registered again to stay notified
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dev.common.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Limits for requests served on virtual threads, where the servlet container no longer caps
+ * concurrency through its worker pool.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "common.concurrency")
+public class ConcurrencyLimitProperties {
+
+    // Requests allowed in flight at once, no limit when unset. Size it from the JDBC pool for services with a database
+    private int maxInFlight;
+
+    // How long a request waits for a permit before it is rejected with 503
+    private long acquireTimeoutMs = 20000;
+
+    // Path prefixes (after the context path) that bypass the limit, so health probes answer while the instance is busy
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator/health"));
+}
@@ -0,0 +1,12 @@
+package dev.common.exceptionutils.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends CommonException {
+
+    public ConflictException(String message) {
+        super(message, HttpStatus.CONFLICT, HttpStatus.CONFLICT.name());
+    }
+}
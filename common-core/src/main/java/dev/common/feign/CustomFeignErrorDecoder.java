@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import dev.common.exceptionutils.exceptions.BadRequestException;
+import dev.common.exceptionutils.exceptions.ConflictException;
 import dev.common.exceptionutils.exceptions.ForbiddenException;
 import dev.common.exceptionutils.exceptions.InternalServerException;
 import dev.common.exceptionutils.exceptions.UnauthorizedException;
@@ -50,6 +51,7 @@ public class CustomFeignErrorDecoder implements ErrorDecoder {
                 case 401 -> new UnauthorizedException(errorMessage);
                 case 403 -> new ForbiddenException(errorMessage);
                 case 404 -> new BadRequestException(errorMessage);
+                case 409 -> new ConflictException(errorMessage);
                 case 500, 502, 503, 504 -> new InternalServerException(
                         "Downstream service error: " + errorMessage
                 );
@@ -1,9 +1,38 @@
 package dev.common.feign;
 
+import lombok.Getter;
+import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
 @ConfigurationProperties(prefix = "common.feign.defaults")
 public class FeignDefaultsProperties {
-    private final int connectTimeout = 2000;
-    private final int readTimeout = 3000;
+    private int connectTimeout = 2000;
+
+    // Shorter than OpenFeign's own 60s default. Slow calls (uploads, batches) need a per-client override
+    // through spring.cloud.openfeign.client.config.<contextId>.read-timeout, which takes precedence
+    private int readTimeout = 3000;
+    private Pool pool = new Pool();
+
+    /**
+     * Connection pool shared by all Feign clients of the application.
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxConnections = 200;
+        private int maxConnectionsPerRoute = 50;
+
+        // Per-route limits keyed by base url, e.g. routes[http\://localhost\:8101]=100 in a .properties file
+        private Map<String, Integer> routes = new LinkedHashMap<>();
+
+        // Kept below the server's keep-alive timeout (Tomcat default 20s) so the client closes first
+        private long keepAliveMs = 15000;
+        private long timeToLiveMs = 300000;
+        private long idleEvictionMs = 30000;
+    }
 }
@@ -0,0 +1,46 @@
+package dev.common.feign;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Circuit breaker, bulkhead and retry settings applied to every Feign client. Each client
+ * (by its {@code @FeignClient} name) gets its own circuit breaker and bulkhead instance.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "common.feign.resilience")
+public class FeignResilienceProperties {
+    private boolean enabled = true;
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Bulkhead bulkhead = new Bulkhead();
+    private Retry retry = new Retry();
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        // Failure rate (%) over the last sliding-window-size calls that opens the circuit
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private long waitDurationInOpenStateMs = 10000;
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 50;
+        private long maxWaitMs = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        // Total attempts including the first one, only idempotent methods are retried
+        private int maxAttempts = 3;
+        private long initialIntervalMs = 100;
+        private long maxIntervalMs = 1000;
+    }
+}
@@ -0,0 +1,76 @@
+package dev.common.feign;
+
+import dev.common.exceptionutils.exceptions.ServiceUnavailableException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign {@link Client} guarded by a circuit breaker and a bulkhead per Feign client name.
+ * <p>
+ * I/O errors and 5xx responses count as failures. While the circuit is open, or when the
+ * bulkhead is full, calls fail at once with 503 instead of waiting on a struggling service.
+ */
+public class ResilientFeignClient implements Client {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilientFeignClient.class);
+
+    private final Client delegate;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public ResilientFeignClient(Client delegate, CircuitBreakerRegistry circuitBreakerRegistry,
+                                BulkheadRegistry bulkheadRegistry) {
+        this.delegate = delegate;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String name = clientName(request);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            log.warn("Circuit breaker open, failing fast | Client: {} | URL: {}", name, request.url());
+            throw new ServiceUnavailableException("Downstream service " + name + " is temporarily unavailable");
+        }
+
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            log.warn("Bulkhead full, rejecting call | Client: {} | URL: {}", name, request.url());
+            throw new ServiceUnavailableException("Too many concurrent calls to downstream service " + name);
+        }
+
+        long start = System.nanoTime();
+        try {
+            Response response = delegate.execute(request, options);
+            circuitBreaker.onResult(System.nanoTime() - start, TimeUnit.NANOSECONDS, response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static String clientName(Request request) {
+        if (request.requestTemplate() != null && request.requestTemplate().feignTarget() != null) {
+            return request.requestTemplate().feignTarget().name();
+        }
+        return "default";
+    }
+}
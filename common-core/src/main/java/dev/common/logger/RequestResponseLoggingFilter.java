@@ -10,7 +10,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -31,8 +30,8 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
 
         ContentCachingRequestWrapper req =
                 new ContentCachingRequestWrapper(request, 1024 * 16);
-        ContentCachingResponseWrapper res =
-                new ContentCachingResponseWrapper(response);
+
+        // Response body is never logged, it is not wrapped so streamed responses are not buffered in memory
 
         // Log request BEFORE execution
         log.info(
@@ -46,13 +45,13 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
         );
 
         try {
-            filterChain.doFilter(req, res);
+            filterChain.doFilter(req, response);
         } catch (Exception ex) {
 
             // 🔥 Log response ONLY on error
             log.error(
                     "ERROR | status={} | method={} | uri={} | query={} | ip={} | message={}",
-                    res.getStatus(),
+                    response.getStatus(),
                     req.getMethod(),
                     req.getRequestURI(),
                     req.getQueryString(),
@@ -62,8 +61,6 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
             );
 
             throw ex;
-        } finally {
-            res.copyBodyToResponse();
         }
     }
 
@@ -0,0 +1,138 @@
+package dev.common.autoconfig;
+
+import dev.common.autoconfig.CommonFeignAutoConfiguration.CustomRetryer;
+import dev.common.exceptionutils.exceptions.InternalServerException;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CustomRetryerTest {
+
+    @ParameterizedTest
+    @EnumSource(value = Request.HttpMethod.class, names = {"POST", "PATCH"})
+    void nonIdempotentMethodsAreNotRetried(Request.HttpMethod method) {
+        RecordingRetryer retryer = new RecordingRetryer(100, 1000, 3);
+
+        assertThatThrownBy(() -> retryer.continueOrPropagate(failure(method)))
+                .isInstanceOf(InternalServerException.class);
+        assertThat(retryer.intervals).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Request.HttpMethod.class, names = {"GET", "HEAD", "OPTIONS", "PUT", "DELETE"})
+    void idempotentMethodsAreRetried(Request.HttpMethod method) {
+        RecordingRetryer retryer = new RecordingRetryer(100, 1000, 3);
+
+        retryer.continueOrPropagate(failure(method));
+
+        assertThat(retryer.intervals).hasSize(1);
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        RecordingRetryer retryer = new RecordingRetryer(100, 1000, 4);
+        RetryableException failure = failure(Request.HttpMethod.GET);
+
+        // The first attempt is the original call, three retries follow
+        retryer.continueOrPropagate(failure);
+        retryer.continueOrPropagate(failure);
+        retryer.continueOrPropagate(failure);
+
+        assertThatThrownBy(() -> retryer.continueOrPropagate(failure))
+                .isInstanceOf(InternalServerException.class);
+        assertThat(retryer.intervals).hasSize(3);
+    }
+
+    @Test
+    void cloneStartsFromTheFirstAttempt() {
+        RecordingRetryer retryer = new RecordingRetryer(1, 1, 2);
+        retryer.continueOrPropagate(failure(Request.HttpMethod.GET));
+
+        // Feign clones the retryer per call, attempts used by one call do not count against the next
+        Retryer clone = retryer.clone();
+        clone.continueOrPropagate(failure(Request.HttpMethod.GET));
+
+        assertThatThrownBy(() -> retryer.continueOrPropagate(failure(Request.HttpMethod.GET)))
+                .isInstanceOf(InternalServerException.class);
+    }
+
+    @Test
+    void delaysAreJitteredWithinExponentialBackoff() {
+        List<Long> firstDelays = new ArrayList<>();
+        List<Long> secondDelays = new ArrayList<>();
+
+        for (int run = 0; run < 200; run++) {
+            List<Long> intervals = delays(new RecordingRetryer(100, 300, 5), 4);
+
+            // Caps double from the initial interval and stop at the max interval
+            assertThat(intervals.get(0)).isBetween(0L, 100L);
+            assertThat(intervals.get(1)).isBetween(0L, 200L);
+            assertThat(intervals.get(2)).isBetween(0L, 300L);
+            assertThat(intervals.get(3)).isBetween(0L, 300L);
+            firstDelays.add(intervals.get(0));
+            secondDelays.add(intervals.get(1));
+        }
+
+        // The second retry may wait longer than the first one could
+        assertThat(secondDelays).anyMatch(interval -> interval > 100);
+
+        // Full jitter, callers failing together do not all wait the same time
+        Set<Long> distinct = new HashSet<>(firstDelays);
+        assertThat(distinct).hasSizeGreaterThan(10);
+    }
+
+    @Test
+    void interruptedBackoffIsNotRetried() {
+        CustomRetryer retryer = new CustomRetryer(100, 1000, 3) {
+            @Override
+            void sleep(long interval) throws InterruptedException {
+                throw new InterruptedException();
+            }
+        };
+
+        assertThatThrownBy(() -> retryer.continueOrPropagate(failure(Request.HttpMethod.GET)))
+                .isInstanceOf(InternalServerException.class);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static List<Long> delays(RecordingRetryer retryer, int retries) {
+        for (int i = 0; i < retries; i++) {
+            retryer.continueOrPropagate(failure(Request.HttpMethod.GET));
+        }
+        return retryer.intervals;
+    }
+
+    private static RetryableException failure(Request.HttpMethod method) {
+        RetryableException failure = mock(RetryableException.class);
+        when(failure.method()).thenReturn(method);
+        return failure;
+    }
+
+    private static class RecordingRetryer extends CustomRetryer {
+        private final List<Long> intervals = new ArrayList<>();
+
+        RecordingRetryer(long period, long maxPeriod, int maxAttempts) {
+            super(period, maxPeriod, maxAttempts);
+        }
+
+        @Override
+        void sleep(long interval) {
+            intervals.add(interval);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package dev.common.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final AtomicInteger chainCalls = new AtomicInteger();
+
+    private final FilterChain syncChain = (request, response) -> chainCalls.incrementAndGet();
+
+    private final FilterChain asyncChain = (request, response) -> {
+        chainCalls.incrementAndGet();
+        request.startAsync();
+    };
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties(1), objectMapper());
+
+    @Test
+    void syncRequestReleasesPermitWhenChainReturns() throws ServletException, IOException {
+        assertThat(execute("/accounts", syncChain).getStatus()).isEqualTo(200);
+        assertThat(execute("/accounts", syncChain).getStatus()).isEqualTo(200);
+
+        assertThat(chainCalls).hasValue(2);
+    }
+
+    @Test
+    void requestWithoutPermitIsRejected() throws ServletException, IOException {
+        MockHttpServletRequest streaming = request("/export");
+        filter.doFilter(streaming, new MockHttpServletResponse(), asyncChain);
+
+        MockHttpServletResponse rejected = execute("/accounts", syncChain);
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getContentAsString()).contains("SERVICE_UNAVAILABLE");
+        assertThat(chainCalls).hasValue(1);
+    }
+
+    @Test
+    void asyncRequestHoldsPermitUntilComplete() throws ServletException, IOException {
+        MockHttpServletRequest streaming = request("/export");
+        filter.doFilter(streaming, new MockHttpServletResponse(), asyncChain);
+
+        assertThat(execute("/accounts", syncChain).getStatus()).isEqualTo(503);
+
+        ((MockAsyncContext) streaming.getAsyncContext()).complete();
+
+        assertThat(execute("/accounts", syncChain).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void asyncPermitIsReleasedOnceWhenErrorIsFollowedByComplete() throws ServletException, IOException {
+        MockHttpServletRequest streaming = request("/export");
+        filter.doFilter(streaming, new MockHttpServletResponse(), asyncChain);
+
+        MockAsyncContext asyncContext = (MockAsyncContext) streaming.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("client went away")));
+        }
+        asyncContext.complete();
+
+        // A double release would leave two permits and let both requests through
+        MockHttpServletRequest first = request("/export");
+        filter.doFilter(first, new MockHttpServletResponse(), asyncChain);
+        assertThat(execute("/accounts", syncChain).getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void healthProbesBypassTheLimit() throws ServletException, IOException {
+        filter.doFilter(request("/export"), new MockHttpServletResponse(), asyncChain);
+
+        assertThat(execute("/actuator/health", syncChain).getStatus()).isEqualTo(200);
+        assertThat(execute("/actuator/health/liveness", syncChain).getStatus()).isEqualTo(200);
+        assertThat(execute("/actuator/healthy", syncChain).getStatus()).isEqualTo(503);
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private MockHttpServletResponse execute(String uri, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(uri), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private static ConcurrencyLimitProperties properties(int maxInFlight) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setMaxInFlight(maxInFlight);
+        properties.setAcquireTimeoutMs(0);
+        return properties;
+    }
+
+    private static ObjectMapper objectMapper() {
+        return new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+}
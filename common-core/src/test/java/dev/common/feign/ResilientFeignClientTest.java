@@ -0,0 +1,171 @@
+package dev.common.feign;
+
+import dev.common.autoconfig.CommonFeignAutoConfiguration;
+import dev.common.exceptionutils.exceptions.ServiceUnavailableException;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientFeignClientTest {
+
+    private static final String CORE = "expense-manager-core";
+    private static final String AUTH = "expense-manager-auth";
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+    private final CommonFeignAutoConfiguration configuration = new CommonFeignAutoConfiguration();
+    private final FeignResilienceProperties properties = properties();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = configuration.feignCircuitBreakerRegistry(properties);
+
+    @Test
+    void openCircuitFailsFastWithoutCallingTheService() throws IOException {
+        ResilientFeignClient client = client(respondingWith(503));
+
+        // Two server errors out of two calls open the circuit
+        client.execute(request(CORE), options()).close();
+        client.execute(request(CORE), options()).close();
+
+        assertThat(circuitBreakerRegistry.circuitBreaker(CORE).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.execute(request(CORE), options()))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void ioErrorsCountAsFailures() {
+        ResilientFeignClient client = client((request, options) -> {
+            delegateCalls.incrementAndGet();
+            throw new IOException("Connection refused");
+        });
+
+        assertThatThrownBy(() -> client.execute(request(CORE), options())).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> client.execute(request(CORE), options())).isInstanceOf(IOException.class);
+
+        assertThatThrownBy(() -> client.execute(request(CORE), options()))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void clientErrorsLeaveTheCircuitClosed() throws IOException {
+        ResilientFeignClient client = client(respondingWith(404));
+
+        for (int i = 0; i < 5; i++) {
+            client.execute(request(CORE), options()).close();
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker(CORE).getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(delegateCalls).hasValue(5);
+    }
+
+    @Test
+    void openCircuitOnlyAffectsItsOwnClient() throws IOException {
+        ResilientFeignClient client = client(respondingWith(500));
+        client.execute(request(CORE), options()).close();
+        client.execute(request(CORE), options()).close();
+
+        try (Response response = client.execute(request(AUTH), options())) {
+            assertThat(response.status()).isEqualTo(500);
+        }
+        assertThat(delegateCalls).hasValue(3);
+    }
+
+    @Test
+    void fullBulkheadFailsFast() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResilientFeignClient client = client((request, options) -> {
+            delegateCalls.incrementAndGet();
+            inFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response(request, 200);
+        });
+
+        // Holds the only permit until released
+        CompletableFuture<Response> slowCall = CompletableFuture.supplyAsync(() -> {
+            try {
+                return client.execute(request(CORE), options());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.execute(request(CORE), options()))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(delegateCalls).hasValue(1);
+
+        release.countDown();
+        slowCall.get(5, TimeUnit.SECONDS).close();
+
+        // The rejected call gave its circuit breaker permission back and the permit is free again
+        try (Response response = client.execute(request(CORE), options())) {
+            assertThat(response.status()).isEqualTo(200);
+        }
+        assertThat(circuitBreakerRegistry.circuitBreaker(CORE).getMetrics().getNumberOfBufferedCalls()).isEqualTo(2);
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private ResilientFeignClient client(Client delegate) {
+        BulkheadRegistry bulkheadRegistry = configuration.feignBulkheadRegistry(properties);
+        return new ResilientFeignClient(delegate, circuitBreakerRegistry, bulkheadRegistry);
+    }
+
+    private Client respondingWith(int status) {
+        return (request, options) -> {
+            delegateCalls.incrementAndGet();
+            return response(request, status);
+        };
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder()
+                .status(status)
+                .request(request)
+                .headers(Map.of())
+                .body(new byte[0])
+                .build();
+    }
+
+    private static Request request(String clientName) {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(Object.class, clientName, "http://" + clientName));
+        return Request.create(Request.HttpMethod.GET, "http://" + clientName + "/accounts", Map.of(), null,
+                StandardCharsets.UTF_8, template);
+    }
+
+    private static Request.Options options() {
+        return new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+    }
+
+    private static FeignResilienceProperties properties() {
+        FeignResilienceProperties properties = new FeignResilienceProperties();
+        properties.getCircuitBreaker().setSlidingWindowSize(2);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(2);
+        properties.getCircuitBreaker().setWaitDurationInOpenStateMs(60000);
+        properties.getBulkhead().setMaxConcurrentCalls(1);
+        properties.getBulkhead().setMaxWaitMs(0);
+        return properties;
+    }
+}
@@ -2,8 +2,10 @@ package dev.vishal.auth;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.openfeign.EnableFeignClients;
 
 @SpringBootApplication
+@EnableFeignClients(basePackages = "dev.vishal.auth.client")
 public class ExpenseManagerAuthApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,18 @@
+package dev.vishal.auth.client;
+
+import dev.common.responseutils.model.ResponseDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.util.UUID;
+
+@FeignClient(
+        name = "expense-manager-core",
+        url = "${expense.manager.core.url}")
+public interface ExpenseManagerCoreClient {
+
+    @DeleteMapping("/user/deleteUserData/{userId}")
+    ResponseEntity<ResponseDTO> deleteUserData(@PathVariable UUID userId);
+}
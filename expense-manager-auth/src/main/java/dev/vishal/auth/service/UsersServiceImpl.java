@@ -1,14 +1,19 @@
 package dev.vishal.auth.service;
 
 import dev.common.exceptionutils.exceptions.BadRequestException;
+import dev.vishal.auth.client.ExpenseManagerCoreClient;
 import dev.vishal.auth.entity.Users;
 import dev.vishal.auth.model.UserDto;
 import dev.vishal.auth.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.UUID;
 
@@ -16,8 +21,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UsersServiceImpl implements UsersService {
 
+    private static final Logger log = LoggerFactory.getLogger(UsersServiceImpl.class);
+
     private final UsersRepository usersRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ExpenseManagerCoreClient expenseManagerCoreClient;
 
     @Override
     @Transactional
@@ -92,10 +100,28 @@ public class UsersServiceImpl implements UsersService {
                 .orElseThrow(() -> new BadRequestException("User does not exists"));
         user.setIsDeleted(true);
         usersRepository.save(user);
+
+        // Core is called only once the user row is committed, so a slow or failing core call neither holds
+        // this DB transaction open nor leaves core data deleted for a user whose delete rolled back
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteUserData(id);
+            }
+        });
     }
 
     // ------------------ Helper methods ------------------
 
+    private void deleteUserData(UUID id) {
+        try {
+            // Accounts, categories and transactions of the user, idempotent so a failed delete can be re-run
+            expenseManagerCoreClient.deleteUserData(id);
+        } catch (RuntimeException e) {
+            log.error("User data delete failed in core, retry /user/deleteUserData for this user | userId: {}", id, e);
+        }
+    }
+
     private void copyDtoToEntity(UserDto dto, Users entity) {
         entity.setFirstName(dto.getFirstName());
         entity.setLastName(dto.getLastName());
@@ -0,0 +1,37 @@
+package dev.vishal.expensemanager.client;
+
+import dev.common.responseutils.model.ResponseDTO;
+import dev.vishal.expensemanager.dto.TransactionBatchDto;
+import dev.vishal.expensemanager.dto.TransactionDto;
+import feign.Response;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+/**
+ * Core calls that move whole files or batches. Kept apart from {@link ExpenseManagerCoreClient} so they get
+ * their own read timeout through {@code spring.cloud.openfeign.client.config.expense-manager-core-bulk.*}
+ * instead of the short {@code common.feign.defaults.read-timeout} used by interactive calls.
+ */
+@FeignClient(
+        name = "expense-manager-core",
+        contextId = "expense-manager-core-bulk",
+        url = "${expense.manager.core.url}")
+public interface ExpenseManagerCoreBulkClient {
+
+    @PostMapping(value = "/transaction/importTransactions/{userId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    ResponseEntity<ResponseDTO> importTransactions(
+            @PathVariable UUID userId,
+            @RequestPart("file") MultipartFile file);
+
+    // Raw response, the body is streamed by the caller and must be closed by it
+    @PostMapping("/transaction/exportTransactions")
+    Response exportTransactions(@RequestBody TransactionDto dto, @RequestParam("format") String format);
+
+    @PostMapping("/transaction/batch")
+    ResponseEntity<ResponseDTO> applyBatch(@RequestBody TransactionBatchDto dto);
+}
@@ -4,6 +4,7 @@ import dev.common.exceptionutils.exceptions.BadRequestException;
 import dev.common.responseutils.model.ResponseDTO;
 import dev.vishal.expensemanager.dto.AccountDto;
 import dev.vishal.expensemanager.dto.CategoryDto;
+import dev.vishal.expensemanager.dto.ReportDto;
 import dev.vishal.expensemanager.dto.TransactionDto;
 import dev.vishal.expensemanager.dto.UserDto;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -29,6 +30,9 @@ public interface ExpenseManagerCoreClient {
             @PathVariable UUID userId,
             @PathVariable Long id) throws BadRequestException;
 
+    @PostMapping("/account/getAccountsByIds/{userId}")
+    ResponseEntity<ResponseDTO> getAccountsByIds(@PathVariable UUID userId, @RequestBody List<Long> ids);
+
     @GetMapping("/account/getAccountByType/{userId}/{type}")
     ResponseEntity<ResponseDTO> getAccountByType(
             @PathVariable UUID userId,
@@ -51,6 +55,9 @@ public interface ExpenseManagerCoreClient {
             @PathVariable UUID userId,
             @PathVariable Long id) throws BadRequestException;
 
+    @PostMapping("/category/getCategoriesByIds/{userId}")
+    ResponseEntity<ResponseDTO> getCategoriesByIds(@PathVariable UUID userId, @RequestBody List<Long> ids);
+
     @GetMapping("/category/getCategoryByParent/{userId}/{id}")
     ResponseEntity<ResponseDTO> getCategoryByParent(
             @PathVariable UUID userId,
@@ -73,15 +80,35 @@ public interface ExpenseManagerCoreClient {
             @PathVariable UUID userId,
             @PathVariable UUID id) throws BadRequestException;
 
-    @GetMapping("/transaction/getAllTransactions")
+    @PostMapping("/transaction/getTransactionsByIds/{userId}")
+    ResponseEntity<ResponseDTO> getTransactionsByIds(@PathVariable UUID userId, @RequestBody List<UUID> ids);
+
+    @GetMapping("/transaction/getTransactionHistory/{userId}/{id}")
+    ResponseEntity<ResponseDTO> getTransactionHistory(
+            @PathVariable UUID userId,
+            @PathVariable UUID id);
+
+    @PostMapping("/transaction/getAllTransactions")
     ResponseEntity<ResponseDTO> getAllTransactions(@RequestBody TransactionDto dto);
 
-    @GetMapping("/transaction/getTransactionNotes")
-    ResponseEntity<ResponseDTO> getTransactionNotes(TransactionDto dto);
+    @PostMapping("/transaction/getTransactionsPage")
+    ResponseEntity<ResponseDTO> getTransactionsPage(@RequestBody TransactionDto dto);
+
+    @PostMapping("/transaction/getTransactionSummary")
+    ResponseEntity<ResponseDTO> getTransactionSummary(@RequestBody TransactionDto dto);
+
+    @PostMapping("/transaction/getBalanceSeries")
+    ResponseEntity<ResponseDTO> getBalanceSeries(@RequestBody TransactionDto dto);
+
+    @PostMapping("/transaction/getTransactionNotes")
+    ResponseEntity<ResponseDTO> getTransactionNotes(@RequestBody TransactionDto dto);
 
     @DeleteMapping("/transaction/deleteTransaction/{userId}/{id}")
     void deleteTransaction(
             @PathVariable UUID userId,
             @PathVariable UUID id) throws BadRequestException;
 
+    @PostMapping("/reports/getMonthlyReport")
+    ResponseEntity<ResponseDTO> getMonthlyReport(@RequestBody ReportDto dto);
+
 }
@@ -0,0 +1,72 @@
+package dev.vishal.expensemanager.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool for concurrent downstream calls made while serving one request.
+ * <p>
+ * Not exposed as an {@code Executor} bean, which would replace Spring Boot's application task
+ * executor. When the pool and its queue are full the call runs on the request thread instead.
+ * With virtual threads enabled each call gets its own virtual thread, and callers wait once
+ * {@code pool-size} calls are running.
+ */
+@Component
+public class FanOutExecutor implements DisposableBean {
+
+    private final AsyncTaskExecutor executor;
+
+    public FanOutExecutor(
+            Environment environment,
+            @Value("${expense.manager.fan-out.pool-size:16}") int poolSize,
+            @Value("${expense.manager.fan-out.queue-capacity:64}") int queueCapacity) {
+        this.executor = Threading.VIRTUAL.isActive(environment)
+                ? virtualThreadExecutor(poolSize)
+                : platformThreadExecutor(poolSize, queueCapacity);
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static AsyncTaskExecutor platformThreadExecutor(int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(poolSize);
+        pool.setMaxPoolSize(poolSize);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setThreadNamePrefix("fan-out-");
+        pool.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        pool.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.initialize();
+        return pool;
+    }
+
+    private static AsyncTaskExecutor virtualThreadExecutor(int concurrencyLimit) {
+        SimpleAsyncTaskExecutor simple = new SimpleAsyncTaskExecutor("fan-out-");
+        simple.setVirtualThreads(true);
+        simple.setConcurrencyLimit(concurrencyLimit);
+        simple.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return simple;
+    }
+}
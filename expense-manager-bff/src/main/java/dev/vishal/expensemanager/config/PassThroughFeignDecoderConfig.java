@@ -0,0 +1,59 @@
+package dev.vishal.expensemanager.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import dev.common.responseutils.model.ResponseDTO;
+import feign.codec.Decoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+
+/**
+ * Decodes core responses without building a tree of maps for {@link ResponseDTO#getData()}.
+ * <p>
+ * The {@code data} value is copied into a {@code TokenBuffer}, a compact sequence of the parsed
+ * JSON tokens, which Jackson writes back out unchanged when the BFF wraps it in its own envelope.
+ * Only the envelope fields are rebuilt, the payload is never turned into maps and lists.
+ * Controllers passing the data through need no change, none of them inspect it.
+ */
+@Configuration
+@ConditionalOnProperty(value = "expense.manager.bff.pass-through.enabled", havingValue = "true", matchIfMissing = true)
+public class PassThroughFeignDecoderConfig {
+
+    @Bean
+    public Decoder feignDecoder(ObjectMapper objectMapper, ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+        ObjectMapper passThroughMapper = objectMapper.copy()
+                .addMixIn(ResponseDTO.ResponseDTOBuilder.class, PassThroughDataMixin.class);
+
+        HttpMessageConverters messageConverters =
+                new HttpMessageConverters(new MappingJackson2HttpMessageConverter(passThroughMapper));
+
+        return new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(() -> messageConverters, customizers)));
+    }
+
+    abstract static class PassThroughDataMixin {
+
+        @JsonDeserialize(using = PassThroughDataDeserializer.class)
+        abstract Object data(Object data);
+    }
+
+    static class PassThroughDataDeserializer extends JsonDeserializer<Object> {
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return context.bufferAsCopyOfValue(parser);
+        }
+    }
+}
@@ -9,11 +9,13 @@ import dev.vishal.expensemanager.dto.AccountDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -85,6 +87,22 @@ public class AccountController {
         return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping("/getAccountsByIds")
+    public ResponseEntity<ResponseDTO> getAccountsByIds(@RequestBody List<Long> ids) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getAccountsByIds";
+
+        if (CollectionUtils.isEmpty(ids)) {
+            throw new BadRequestException("Ids are mandatory!");
+        }
+
+        // Fetching user id from current user (Security context)
+        UUID userId = SecurityUtils.getCurrentUser().getUserId();
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getAccountsByIds(userId, ids));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
     @GetMapping("/getAccountByType/{type}")
     public ResponseEntity<ResponseDTO> getAccount(@PathVariable String type) throws BadRequestException {
         LocalDateTime landingTime = LocalDateTime.now();
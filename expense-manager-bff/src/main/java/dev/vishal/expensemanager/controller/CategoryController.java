@@ -9,10 +9,12 @@ import dev.vishal.expensemanager.dto.CategoryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.CollectionUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -80,6 +82,22 @@ public class CategoryController {
         return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping("/getCategoriesByIds")
+    public ResponseEntity<ResponseDTO> getCategoriesByIds(@RequestBody List<Long> ids) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getCategoriesByIds";
+
+        if (CollectionUtils.isEmpty(ids)) {
+            throw new BadRequestException("Ids are mandatory!");
+        }
+
+        // Fetching user id from current user (Security context)
+        UUID userId = SecurityUtils.getCurrentUser().getUserId();
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getCategoriesByIds(userId, ids));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
     @GetMapping("/getCategoryByParent/{id}")
     public ResponseEntity<ResponseDTO> getCategoryByParent(@PathVariable Long id) throws BadRequestException {
         LocalDateTime landingTime = LocalDateTime.now();
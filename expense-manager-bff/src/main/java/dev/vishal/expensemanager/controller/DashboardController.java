@@ -0,0 +1,76 @@
+package dev.vishal.expensemanager.controller;
+
+import dev.common.helper.SecurityUtils;
+import dev.common.responseutils.ResponseUtil;
+import dev.common.responseutils.model.ResponseDTO;
+import dev.vishal.expensemanager.client.ExpenseManagerCoreClient;
+import dev.vishal.expensemanager.config.FanOutExecutor;
+import dev.vishal.expensemanager.dto.DashboardDto;
+import dev.vishal.expensemanager.dto.TransactionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+@Validated
+public class DashboardController {
+
+    private final ExpenseManagerCoreClient expenseManagerCoreClient;
+    private final FanOutExecutor fanOutExecutor;
+
+    /**
+     * Accounts, categories and transactions (filtered by the optional body) of the home screen,
+     * fetched from core concurrently.
+     */
+    @PostMapping("/getDashboard")
+    public ResponseEntity<ResponseDTO> getDashboard(@RequestBody(required = false) TransactionDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getDashboard";
+
+        TransactionDto transactionDto = Objects.nonNull(dto) ? dto : new TransactionDto();
+
+        // Fetching user id from current user (Security context)
+        UUID userId = SecurityUtils.getCurrentUser().getUserId();
+        transactionDto.setUserId(userId);
+
+        CompletableFuture<Object> accounts = fanOutExecutor.supplyAsync(() ->
+                ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getAllAccounts(userId)));
+        CompletableFuture<Object> categories = fanOutExecutor.supplyAsync(() ->
+                ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getAllCategories(userId)));
+        CompletableFuture<Object> transactions = fanOutExecutor.supplyAsync(() ->
+                ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getAllTransactions(transactionDto)));
+
+        // Wait for every call before unwrapping, a failure must not end the request (and its request
+        // attributes and security context) while the other calls are still using them
+        CompletableFuture.allOf(accounts, categories, transactions)
+                .handle((ignored, error) -> null)
+                .join();
+
+        DashboardDto data = new DashboardDto(join(accounts), join(categories), join(transactions));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Rethrow the downstream exception as is, so the global handler maps its status
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
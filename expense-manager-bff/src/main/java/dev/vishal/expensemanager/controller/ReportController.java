@@ -0,0 +1,41 @@
+package dev.vishal.expensemanager.controller;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+import dev.common.helper.SecurityUtils;
+import dev.common.responseutils.ResponseUtil;
+import dev.common.responseutils.model.ResponseDTO;
+import dev.vishal.expensemanager.client.ExpenseManagerCoreClient;
+import dev.vishal.expensemanager.dto.ReportDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+@Validated
+public class ReportController {
+
+    private final ExpenseManagerCoreClient expenseManagerCoreClient;
+
+    @PostMapping("/getMonthlyReport")
+    public ResponseEntity<ResponseDTO> getMonthlyReport(@RequestBody ReportDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getMonthlyReport";
+
+        if (Objects.isNull(dto.getFromMonth()) || Objects.isNull(dto.getToMonth())) {
+            throw new BadRequestException("From month and to month are mandatory!");
+        }
+
+        // Fetching user id from current user (Security context)
+        dto.setUserId(SecurityUtils.getCurrentUser().getUserId());
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getMonthlyReport(dto));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+}
@@ -4,18 +4,29 @@ import dev.common.exceptionutils.exceptions.BadRequestException;
 import dev.common.helper.SecurityUtils;
 import dev.common.responseutils.ResponseUtil;
 import dev.common.responseutils.model.ResponseDTO;
+import dev.vishal.expensemanager.client.ExpenseManagerCoreBulkClient;
 import dev.vishal.expensemanager.client.ExpenseManagerCoreClient;
+import dev.vishal.expensemanager.dto.TransactionBatchDto;
 import dev.vishal.expensemanager.dto.TransactionDto;
+import feign.Response;
+import feign.codec.ErrorDecoder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -27,6 +38,8 @@ import java.util.UUID;
 public class TransactionController {
 
     private final ExpenseManagerCoreClient expenseManagerCoreClient;
+    private final ExpenseManagerCoreBulkClient expenseManagerCoreBulkClient;
+    private final ErrorDecoder feignErrorDecoder;
 
     @PostMapping("/createTransaction")
     public ResponseEntity<ResponseDTO> createTransaction(@RequestBody TransactionDto dto) {
@@ -125,6 +138,38 @@ public class TransactionController {
         return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping("/getTransactionsByIds")
+    public ResponseEntity<ResponseDTO> getTransactionsByIds(@RequestBody List<UUID> ids) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getTransactionsByIds";
+
+        if (CollectionUtils.isEmpty(ids)) {
+            throw new BadRequestException("Ids are mandatory!");
+        }
+
+        // Fetching user id from current user (Security context)
+        UUID userId = SecurityUtils.getCurrentUser().getUserId();
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getTransactionsByIds(userId, ids));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
+    @GetMapping("/getTransactionHistory/{id}")
+    public ResponseEntity<ResponseDTO> getTransactionHistory(@PathVariable UUID id) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getTransactionHistory";
+
+        if (Objects.isNull(id)) {
+            throw new BadRequestException("Id is mandatory!");
+        }
+
+        // Fetching user id from current user (Security context)
+        UUID userId = SecurityUtils.getCurrentUser().getUserId();
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getTransactionHistory(userId, id));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
     @PostMapping("/getAllTransactions")
     public ResponseEntity<ResponseDTO> getAllTransactions(@RequestBody TransactionDto dto) {
         LocalDateTime landingTime = LocalDateTime.now();
@@ -137,6 +182,50 @@ public class TransactionController {
         return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping("/getTransactionsPage")
+    public ResponseEntity<ResponseDTO> getTransactionsPage(@RequestBody TransactionDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getTransactionsPage";
+
+        if (Objects.nonNull(dto.getCount()) && dto.getCount() <= 0) {
+            throw new BadRequestException("Count must be greater than 0!");
+        }
+
+        // Fetching user id from current user (Security context)
+        dto.setUserId(SecurityUtils.getCurrentUser().getUserId());
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getTransactionsPage(dto));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
+    @PostMapping("/getTransactionSummary")
+    public ResponseEntity<ResponseDTO> getTransactionSummary(@RequestBody TransactionDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getTransactionSummary";
+
+        // Fetching user id from current user (Security context)
+        dto.setUserId(SecurityUtils.getCurrentUser().getUserId());
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getTransactionSummary(dto));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
+    @PostMapping("/getBalanceSeries")
+    public ResponseEntity<ResponseDTO> getBalanceSeries(@RequestBody TransactionDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getBalanceSeries";
+
+        if (CollectionUtils.isEmpty(dto.getAccounts())) {
+            throw new BadRequestException("Accounts are mandatory!");
+        }
+
+        // Fetching user id from current user (Security context)
+        dto.setUserId(SecurityUtils.getCurrentUser().getUserId());
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreClient.getBalanceSeries(dto));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
     @PostMapping("/getTransactionNotes")
     public ResponseEntity<ResponseDTO> getTransactionNotes(@RequestBody TransactionDto dto) {
         LocalDateTime landingTime = LocalDateTime.now();
@@ -157,6 +246,68 @@ public class TransactionController {
         return ResponseUtil.sendResponse(notes, landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping(value = "/importTransactions", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResponseDTO> importTransactions(@RequestPart("file") MultipartFile file) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/importTransactions";
+
+        if (Objects.isNull(file) || file.isEmpty()) {
+            throw new BadRequestException("File is mandatory!");
+        }
+
+        // Fetching user id from current user (Security context)
+        UUID userId = SecurityUtils.getCurrentUser().getUserId();
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreBulkClient.importTransactions(userId, file));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
+    @PostMapping("/exportTransactions")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestBody TransactionDto dto,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        // Fetching user id from current user (Security context)
+        dto.setUserId(SecurityUtils.getCurrentUser().getUserId());
+
+        Response response = expenseManagerCoreBulkClient.exportTransactions(dto, format);
+
+        if (response.status() >= HttpStatus.MULTIPLE_CHOICES.value()) {
+            try (response) {
+                throw (RuntimeException) feignErrorDecoder.decode("exportTransactions", response);
+            }
+        }
+
+        // Copy the core response as it arrives, nothing is buffered in the BFF
+        StreamingResponseBody body = out -> {
+            try (response; InputStream in = response.body().asInputStream()) {
+                in.transferTo(out);
+            }
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        copyHeader(response, headers, HttpHeaders.CONTENT_TYPE);
+        copyHeader(response, headers, HttpHeaders.CONTENT_DISPOSITION);
+
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<ResponseDTO> applyBatch(@RequestBody TransactionBatchDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/batch";
+
+        if (CollectionUtils.isEmpty(dto.getOperations())) {
+            throw new BadRequestException("Operations are mandatory!");
+        }
+
+        // Fetching user id from current user (Security context)
+        dto.setUserId(SecurityUtils.getCurrentUser().getUserId());
+
+        Object data = ResponseUtil.getDataFromResponse(expenseManagerCoreBulkClient.applyBatch(dto));
+        return ResponseUtil.sendResponse(data, landingTime, HttpStatus.OK, endPoint);
+    }
+
     @DeleteMapping("/deleteTransaction/{id}")
     public ResponseEntity<ResponseDTO> deleteTransaction(@PathVariable UUID id) {
         LocalDateTime landingTime = LocalDateTime.now();
@@ -172,4 +323,13 @@ public class TransactionController {
         expenseManagerCoreClient.deleteTransaction(userId, id);
         return ResponseUtil.sendResponse(id, landingTime, HttpStatus.OK, endPoint);
     }
+
+    // ------------------ Helper methods ------------------
+
+    private void copyHeader(Response response, HttpHeaders headers, String name) {
+        Collection<String> values = response.headers().get(name);
+        if (!CollectionUtils.isEmpty(values)) {
+            headers.addAll(name, new ArrayList<>(values));
+        }
+    }
 }
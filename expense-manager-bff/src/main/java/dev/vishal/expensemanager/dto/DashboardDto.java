@@ -0,0 +1,12 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DashboardDto {
+    private Object accounts;
+    private Object categories;
+    private Object transactions;
+}
@@ -0,0 +1,18 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.Data;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+@Data
+public class ReportDto {
+    private UUID userId;
+
+    // Inclusive month range, yyyy-MM
+    private YearMonth fromMonth;
+    private YearMonth toMonth;
+
+    // ACCOUNT or CATEGORY, totals per month when empty
+    private String groupBy;
+}
@@ -0,0 +1,14 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class TransactionBatchDto {
+    private UUID userId;
+
+    // Applied in order, each one carries its operation (CREATE, UPDATE, DELETE)
+    private List<TransactionDto> operations;
+}
@@ -29,4 +29,14 @@ public class TransactionDto {
     private List<Long> categories;
     private Long count;
     private Boolean orderByAsc = false;
+
+    // For keyset pagination
+    private String cursor;
+
+    // For summary (ACCOUNT, CATEGORY, TYPE and DAY, WEEK, MONTH, YEAR)
+    private List<String> groupBy;
+    private String timeBucket;
+
+    // For batch (CREATE, UPDATE, DELETE)
+    private String operation;
 }
\ No newline at end of file
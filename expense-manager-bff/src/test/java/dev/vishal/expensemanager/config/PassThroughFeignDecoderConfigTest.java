@@ -0,0 +1,96 @@
+package dev.vishal.expensemanager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.common.responseutils.model.ResponseDTO;
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PassThroughFeignDecoderConfigTest {
+
+    private static final String DATA = """
+            {"transactions":[{"id":"0b8f6a1e-6c1a-4f4e-9a57-3f1d2c9e7a10","amount":12.5,"note":"lunch, \\"big\\" one",\
+            "accountId":7,"categoryId":null,"tags":[],"deleted":false}],"nextCursor":"MjAyNC0wMy0xNVQxMjowMA"}""";
+
+    private static final String BODY = """
+            {"landingTime":"2024-03-15T12:00:00.123","responseTime":"2024-03-15T12:00:00.456","status":"OK",\
+            "statusCode":200,"endpoint":"/transaction/getTransactionsPage","data":%s}""".formatted(DATA);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final Decoder decoder = new PassThroughFeignDecoderConfig().feignDecoder(
+            objectMapper, new StaticListableBeanFactory().getBeanProvider(HttpMessageConverterCustomizer.class));
+
+    @Test
+    void dataIsBufferedInsteadOfMapped() throws IOException {
+        ResponseDTO decoded = (ResponseDTO) decoder.decode(response(BODY), ResponseDTO.class);
+
+        assertThat(decoded.getData()).isInstanceOf(TokenBuffer.class);
+    }
+
+    @Test
+    void dataIsWrittenBackUnchanged() throws IOException {
+        ResponseDTO decoded = (ResponseDTO) decoder.decode(response(BODY), ResponseDTO.class);
+
+        // Same fields, same order, same values as sent by core
+        assertThat(objectMapper.writeValueAsString(decoded.getData())).isEqualTo(DATA);
+    }
+
+    @Test
+    void envelopeRoundTripsThroughResponseEntity() throws IOException {
+        @SuppressWarnings("unchecked")
+        ResponseEntity<ResponseDTO> decoded = (ResponseEntity<ResponseDTO>) decoder.decode(
+                response(BODY), new ParameterizedTypeReference<ResponseEntity<ResponseDTO>>() {}.getType());
+
+        ResponseDTO body = decoded.getBody();
+        assertThat(body).isNotNull();
+        assertThat(body.getLandingTime()).isEqualTo(LocalDateTime.of(2024, 3, 15, 12, 0, 0, 123_000_000));
+        assertThat(body.getStatusCode()).isEqualTo(200);
+        assertThat(body.getEndpoint()).isEqualTo("/transaction/getTransactionsPage");
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(body))).isEqualTo(objectMapper.readTree(BODY));
+    }
+
+    @Test
+    void sharedObjectMapperIsLeftUntouched() throws IOException {
+        new PassThroughFeignDecoderConfig().feignDecoder(
+                objectMapper, new StaticListableBeanFactory().getBeanProvider(HttpMessageConverterCustomizer.class));
+
+        assertThat(objectMapper.readValue(BODY, ResponseDTO.class).getData()).isInstanceOf(Map.class);
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static Response response(String body) {
+        Request request = Request.create(Request.HttpMethod.POST, "http://expense-manager-core/transaction",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of(HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON_VALUE)))
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
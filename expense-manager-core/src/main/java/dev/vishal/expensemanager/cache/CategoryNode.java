@@ -0,0 +1,10 @@
+package dev.vishal.expensemanager.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable view of one category held by {@link CategoryTree}, shared by every reader of the snapshot.
+ * Holds every column read back by the category API, so reads keep the entity's response shape.
+ */
+public record CategoryNode(Long id, String name, Long parentId, LocalDateTime createdOn, LocalDateTime updatedOn) {
+}
@@ -0,0 +1,67 @@
+package dev.vishal.expensemanager.cache;
+
+import dev.vishal.expensemanager.entity.Category;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of one user's non-deleted categories as {@link CategoryNode}s, built from a single name-ordered query.
+ * Lists keep the name order of the source rows.
+ */
+public final class CategoryTree {
+
+    private final List<CategoryNode> categories;
+    private final List<CategoryNode> rootCategories;
+    private final Map<Long, CategoryNode> categoriesById;
+    private final Map<Long, List<CategoryNode>> childrenByParentId;
+
+    public CategoryTree(List<Category> nameOrderedCategories) {
+        // Entities are copied into immutable nodes, nothing handed out can change the cached snapshot
+        List<CategoryNode> nodes = nameOrderedCategories.stream()
+                .map(category -> new CategoryNode(category.getId(), category.getName(),
+                        category.getParentCategoryId(), category.getCreatedOn(), category.getUpdatedOn()))
+                .toList();
+
+        Map<Long, CategoryNode> byId = new HashMap<>();
+        Map<Long, List<CategoryNode>> byParent = new HashMap<>();
+        List<CategoryNode> roots = new ArrayList<>();
+
+        for (CategoryNode node : nodes) {
+            byId.put(node.id(), node);
+            if (node.parentId() == null) {
+                roots.add(node);
+            } else {
+                byParent.computeIfAbsent(node.parentId(), id -> new ArrayList<>()).add(node);
+            }
+        }
+
+        byParent.replaceAll((parentId, children) -> List.copyOf(children));
+
+        this.categories = nodes;
+        this.rootCategories = List.copyOf(roots);
+        this.categoriesById = Collections.unmodifiableMap(byId);
+        this.childrenByParentId = Collections.unmodifiableMap(byParent);
+    }
+
+    public List<CategoryNode> getCategories() {
+        return categories;
+    }
+
+    public CategoryNode getCategory(Long id) {
+        return categoriesById.get(id);
+    }
+
+    /**
+     * Children of the given category, or the top level categories when the parent id is null.
+     */
+    public List<CategoryNode> getChildren(Long parentId) {
+        if (parentId == null) {
+            return rootCategories;
+        }
+        return childrenByParentId.getOrDefault(parentId, List.of());
+    }
+}
@@ -0,0 +1,32 @@
+package dev.vishal.expensemanager.cache;
+
+import dev.vishal.expensemanager.configuration.CacheConfig;
+import dev.vishal.expensemanager.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Per-user {@link CategoryTree} snapshots serving every category read of {@code CategoryServiceImpl}.
+ * <p>
+ * Loads are synchronized per user, so an eviction issued after a write commits waits for an in-flight
+ * load and removes it, a snapshot read before the commit is never left behind.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORY_TREES, key = "#userId", sync = true)
+    public CategoryTree getTree(UUID userId) {
+        return new CategoryTree(categoryRepository.findByUserIdAndIsDeletedFalseOrderByName(userId));
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.CATEGORY_TREES, key = "#userId")
+    public void evict(UUID userId) {
+    }
+}
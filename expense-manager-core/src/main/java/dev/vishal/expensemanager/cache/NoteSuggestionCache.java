@@ -0,0 +1,254 @@
+package dev.vishal.expensemanager.cache;
+
+import dev.vishal.expensemanager.dao.TransactionsDao;
+import dev.vishal.expensemanager.dto.NoteCountDto;
+import dev.vishal.expensemanager.dto.TransactionDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Per-user, LRU-bounded index of distinct transaction notes used for note autocomplete.
+ * <p>
+ * A user's index is loaded lazily on the first lookup and kept in step with transaction
+ * writes after they commit. Lookups rank prefix matches first and then by usage count,
+ * the same order as {@link TransactionsDao#findNotes}. Indexes are reloaded after
+ * {@code expire-after-write}, which bounds the damage of any change that was missed.
+ */
+@Component
+public class NoteSuggestionCache {
+
+    private static final int SUGGESTION_LIMIT = 15;
+
+    private final TransactionsDao transactionsDao;
+    private final int maxUsers;
+    private final int maxNotesPerUser;
+    private final long expireAfterWriteNanos;
+
+    // access-ordered, the eldest entry is the least recently used user
+    private final LinkedHashMap<UUID, UserNoteIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalNotes;
+
+    // Users whose index is being loaded, a write committing meanwhile marks the load stale
+    private final Map<UUID, LoadMarker> loading = new HashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter fallbacks;
+    private final Counter evictions;
+
+    public NoteSuggestionCache(
+            TransactionsDao transactionsDao,
+            MeterRegistry meterRegistry,
+            @Value("${expense.manager.notes.cache.max-users:10000}") int maxUsers,
+            @Value("${expense.manager.notes.cache.max-notes-per-user:2000}") int maxNotesPerUser,
+            @Value("${expense.manager.notes.cache.expire-after-write:30m}") Duration expireAfterWrite) {
+        this.transactionsDao = transactionsDao;
+        this.maxUsers = maxUsers;
+        this.maxNotesPerUser = maxNotesPerUser;
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+
+        this.hits = meterRegistry.counter("expense.notes.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("expense.notes.cache.requests", "result", "miss");
+        this.fallbacks = meterRegistry.counter("expense.notes.cache.requests", "result", "fallback");
+        this.evictions = meterRegistry.counter("expense.notes.cache.evictions");
+        Gauge.builder("expense.notes.cache.users", this, cache -> cache.size()).register(meterRegistry);
+        Gauge.builder("expense.notes.cache.notes", this, cache -> cache.noteCount()).register(meterRegistry);
+    }
+
+    /**
+     * Returns up to 15 notes of the user containing the given text, or falls back to
+     * {@link TransactionsDao#findNotes} when the cached index cannot answer on its own.
+     */
+    public List<String> suggest(TransactionDto dto) {
+        UserNoteIndex index = getIndex(dto.getUserId());
+        List<String> notes = index.search(dto.getNoteLike().toLowerCase(), SUGGESTION_LIMIT);
+
+        // A truncated index only holds the most frequent notes, rarer matches may exist in the DB
+        if (!index.isComplete() && notes.size() < SUGGESTION_LIMIT) {
+            fallbacks.increment();
+            return transactionsDao.findNotes(dto);
+        }
+
+        return notes;
+    }
+
+    /**
+     * Applies a note change of a transaction write to the user's index once the
+     * surrounding DB transaction commits. Either note may be null.
+     */
+    public void onNoteChanged(UUID userId, String removedNote, String addedNote) {
+        if (Objects.equals(removedNote, addedNote)) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyNoteChange(userId, removedNote, addedNote);
+                }
+            });
+        } else {
+            applyNoteChange(userId, removedNote, addedNote);
+        }
+    }
+
+    /**
+     * Drops the user's index once the surrounding DB transaction commits, used after bulk writes
+     * where replaying every note change is not worth it.
+     */
+    public void evict(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeIndex(userId);
+                }
+            });
+        } else {
+            removeIndex(userId);
+        }
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private UserNoteIndex getIndex(UUID userId) {
+        LoadMarker marker;
+        synchronized (indexes) {
+            UserNoteIndex index = indexes.get(userId);
+            if (index != null && !index.isExpired(System.nanoTime(), expireAfterWriteNanos)) {
+                hits.increment();
+                return index;
+            }
+            if (index != null) {
+                indexes.remove(userId);
+                totalNotes -= index.size();
+            }
+            marker = loading.computeIfAbsent(userId, id -> new LoadMarker());
+            marker.loaders++;
+        }
+
+        misses.increment();
+
+        // Load outside the lock, fetching one extra row to detect truncation
+        long loadedAtNanos = System.nanoTime();
+        TransactionDto dto = TransactionDto.builder()
+                .userId(userId)
+                .count((long) maxNotesPerUser + 1)
+                .build();
+        List<NoteCountDto> noteCounts;
+        try {
+            noteCounts = transactionsDao.findNoteCounts(dto);
+        } catch (RuntimeException e) {
+            synchronized (indexes) {
+                releaseMarker(userId, marker);
+            }
+            throw e;
+        }
+
+        boolean complete = noteCounts.size() <= maxNotesPerUser;
+        UserNoteIndex loaded = new UserNoteIndex(
+                complete ? noteCounts : noteCounts.subList(0, maxNotesPerUser), complete, loadedAtNanos);
+
+        synchronized (indexes) {
+            releaseMarker(userId, marker);
+
+            // A write committed while loading, the counts may predate it. Answer this lookup but do not cache
+            if (marker.stale) {
+                return loaded;
+            }
+            UserNoteIndex existing = indexes.putIfAbsent(userId, loaded);
+            if (existing != null) {
+                return existing;
+            }
+            totalNotes += loaded.size();
+            evictEldest();
+            return loaded;
+        }
+    }
+
+    private void applyNoteChange(UUID userId, String removedNote, String addedNote) {
+        synchronized (indexes) {
+            markLoadStale(userId);
+            UserNoteIndex index = indexes.get(userId);
+            if (index == null) {
+                return; // not loaded, the next lookup reads fresh counts
+            }
+
+            int before = index.size();
+            if (removedNote != null) {
+                index.decrement(removedNote);
+            }
+            if (addedNote != null) {
+                index.increment(addedNote, maxNotesPerUser);
+            }
+            totalNotes += index.size() - before;
+        }
+    }
+
+    private void removeIndex(UUID userId) {
+        synchronized (indexes) {
+            markLoadStale(userId);
+            UserNoteIndex removed = indexes.remove(userId);
+            if (removed != null) {
+                totalNotes -= removed.size();
+            }
+        }
+    }
+
+    private void releaseMarker(UUID userId, LoadMarker marker) {
+        if (--marker.loaders == 0) {
+            loading.remove(userId);
+        }
+    }
+
+    private void markLoadStale(UUID userId) {
+        LoadMarker marker = loading.get(userId);
+        if (marker != null) {
+            marker.stale = true;
+        }
+    }
+
+    private void evictEldest() {
+        while (indexes.size() > maxUsers) {
+            Map.Entry<UUID, UserNoteIndex> eldest = indexes.entrySet().iterator().next();
+            totalNotes -= eldest.getValue().size();
+            indexes.remove(eldest.getKey());
+            evictions.increment();
+        }
+    }
+
+    private int size() {
+        synchronized (indexes) {
+            return indexes.size();
+        }
+    }
+
+    private long noteCount() {
+        synchronized (indexes) {
+            return totalNotes;
+        }
+    }
+
+    /**
+     * In-flight loads of one user's index, guarded by the lock of {@code indexes}. Once stale, every
+     * load sharing the marker is discarded, including one that started after the write.
+     */
+    private static final class LoadMarker {
+        private int loaders;
+        private boolean stale;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.vishal.expensemanager.cache;
+
+import dev.vishal.expensemanager.configuration.CacheConfig;
+import dev.vishal.expensemanager.entity.Account;
+import dev.vishal.expensemanager.entity.Category;
+import dev.vishal.expensemanager.repository.AccountRepository;
+import dev.vishal.expensemanager.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Read-through cache of accounts and categories keyed by user and id, used by the transaction
+ * write path for ownership checks and names.
+ * <p>
+ * Entries include soft-deleted rows, callers check {@code isDeleted} themselves. The cached
+ * {@link Account#getBalance()} is not kept up to date and must not be read from here.
+ * Entries are evicted by the account and category services on every write, ids not found for the
+ * user are cached as null until the account or category is created.
+ * <p>
+ * Loads are synchronized per key and stored as soon as they finish, not when the reader's transaction
+ * commits. An eviction issued after a delete or rename commits waits for an in-flight load and removes
+ * it, so a row read before the commit is never left behind.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceCache {
+
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * Returns the account when it belongs to the user, otherwise null.
+     */
+    @Cacheable(cacheNames = CacheConfig.ACCOUNTS, key = "#userId + ':' + #id", sync = true)
+    public Account getAccount(UUID userId, Long id) {
+        return accountRepository.findById(id)
+                .filter(account -> account.getUserId().equals(userId))
+                .orElse(null);
+    }
+
+    /**
+     * Returns the category when it belongs to the user, otherwise null.
+     */
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "#userId + ':' + #id", sync = true)
+    public Category getCategory(UUID userId, Long id) {
+        return categoryRepository.findById(id)
+                .filter(category -> category.getUserId().equals(userId))
+                .orElse(null);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.ACCOUNTS, key = "#userId + ':' + #id")
+    public void evictAccount(UUID userId, Long id) {
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#userId + ':' + #id")
+    public void evictCategory(UUID userId, Long id) {
+    }
+}
@@ -0,0 +1,98 @@
+package dev.vishal.expensemanager.cache;
+
+import dev.vishal.expensemanager.dto.NoteCountDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Distinct notes of one user sorted by lower-cased text, so prefix lookups are a sub-map range.
+ * Methods are synchronized because lookups run outside the lock of the owning {@link NoteSuggestionCache}.
+ */
+final class UserNoteIndex {
+
+    // key: lower(note) + '\0' + note, keeps notes differing only in case apart
+    private final TreeMap<String, NoteCountDto> notes = new TreeMap<>();
+    private final long loadedAtNanos;
+    private boolean complete;
+
+    UserNoteIndex(List<NoteCountDto> noteCounts, boolean complete, long loadedAtNanos) {
+        noteCounts.forEach(noteCount -> notes.put(key(noteCount.getNote()), noteCount));
+        this.complete = complete;
+        this.loadedAtNanos = loadedAtNanos;
+    }
+
+    /**
+     * Up to {@code limit} notes containing the lower-cased {@code text}, prefix matches first,
+     * each group by usage count.
+     */
+    synchronized List<String> search(String text, int limit) {
+        Comparator<NoteCountDto> byCount = Comparator.comparing(NoteCountDto::getCount).reversed();
+
+        List<NoteCountDto> prefixMatches = new ArrayList<>(
+                notes.subMap(text, true, text + Character.MAX_VALUE, false).values());
+        prefixMatches.sort(byCount);
+
+        List<String> result = new ArrayList<>(limit);
+        prefixMatches.stream().limit(limit).forEach(noteCount -> result.add(noteCount.getNote()));
+
+        if (result.size() < limit) {
+            notes.entrySet().stream()
+                    .filter(entry -> !entry.getKey().startsWith(text) && lower(entry.getKey()).contains(text))
+                    .map(Map.Entry::getValue)
+                    .sorted(byCount)
+                    .limit(limit - result.size())
+                    .forEach(noteCount -> result.add(noteCount.getNote()));
+        }
+
+        return result;
+    }
+
+    synchronized void increment(String note, int maxNotes) {
+        NoteCountDto noteCount = notes.get(key(note));
+        if (noteCount != null) {
+            noteCount.setCount(noteCount.getCount() + 1);
+        } else if (notes.size() < maxNotes) {
+            notes.put(key(note), new NoteCountDto(note, 1L));
+        } else {
+            complete = false;
+        }
+    }
+
+    synchronized void decrement(String note) {
+        NoteCountDto noteCount = notes.get(key(note));
+        if (noteCount == null) {
+            return;
+        }
+        if (noteCount.getCount() <= 1) {
+            notes.remove(key(note));
+        } else {
+            noteCount.setCount(noteCount.getCount() - 1);
+        }
+    }
+
+    synchronized boolean isComplete() {
+        return complete;
+    }
+
+    synchronized int size() {
+        return notes.size();
+    }
+
+    boolean isExpired(long nowNanos, long expireAfterWriteNanos) {
+        return nowNanos - loadedAtNanos >= expireAfterWriteNanos;
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static String key(String note) {
+        return note.toLowerCase() + '\0' + note;
+    }
+
+    private static String lower(String key) {
+        return key.substring(0, key.indexOf('\0'));
+    }
+}
@@ -0,0 +1,30 @@
+package dev.vishal.expensemanager.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ACCOUNTS = "accounts";
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY_TREES = "categoryTrees";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${expense.manager.reference.cache.spec:maximumSize=50000,expireAfterWrite=10m,recordStats}")
+            String cacheSpec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(ACCOUNTS, CATEGORIES, CATEGORY_TREES);
+        caffeineCacheManager.setCacheSpecification(cacheSpec);
+
+        // Evictions made inside a DB transaction are applied once it commits. Read-through loads use
+        // @Cacheable(sync = true), which stores the value right away instead of deferring the put
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -8,11 +8,13 @@ import dev.vishal.expensemanager.service.AccountService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -22,6 +24,8 @@ import java.util.UUID;
 @Validated
 public class AccountController {
 
+    private static final int MAX_BATCH_IDS = 500;
+
     private final AccountService accountService;
 
     @PostMapping("/createAccount")
@@ -86,6 +90,29 @@ public class AccountController {
         return ResponseUtil.sendResponse(accountService.getAccount(id, userId), landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping("/getAccountsByIds/{userId}")
+    public ResponseEntity<ResponseDTO> getAccountsByIds(
+            @PathVariable UUID userId,
+            @RequestBody List<Long> ids) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getAccountsByIds";
+
+        if (Objects.isNull(userId)) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        if (CollectionUtils.isEmpty(ids)) {
+            throw new BadRequestException("Ids are mandatory!");
+        }
+
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new BadRequestException("At most " + MAX_BATCH_IDS + " ids are allowed!");
+        }
+
+        return ResponseUtil.sendResponse(
+                accountService.getAccountsByIds(ids, userId), landingTime, HttpStatus.OK, endPoint);
+    }
+
     @GetMapping("/getAccountByType/{userId}/{type}")
     public ResponseEntity<ResponseDTO> getAccount(
             @PathVariable String type,
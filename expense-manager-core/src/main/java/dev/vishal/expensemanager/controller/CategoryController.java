@@ -8,11 +8,13 @@ import dev.vishal.expensemanager.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -22,6 +24,8 @@ import java.util.UUID;
 @Validated
 public class CategoryController {
 
+    private static final int MAX_BATCH_IDS = 500;
+
     private final CategoryService categoryService;
 
     @PostMapping("/createCategory")
@@ -83,6 +87,29 @@ public class CategoryController {
                 categoryService.getCategory(id, userId), landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping("/getCategoriesByIds/{userId}")
+    public ResponseEntity<ResponseDTO> getCategoriesByIds(
+            @PathVariable UUID userId,
+            @RequestBody List<Long> ids) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getCategoriesByIds";
+
+        if (Objects.isNull(userId)) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        if (CollectionUtils.isEmpty(ids)) {
+            throw new BadRequestException("Ids are mandatory!");
+        }
+
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new BadRequestException("At most " + MAX_BATCH_IDS + " ids are allowed!");
+        }
+
+        return ResponseUtil.sendResponse(
+                categoryService.getCategoriesByIds(ids, userId), landingTime, HttpStatus.OK, endPoint);
+    }
+
     @GetMapping("/getCategoryByParent/{userId}/{id}")
     public ResponseEntity<ResponseDTO> getCategoryByParent(
             @PathVariable Long id,
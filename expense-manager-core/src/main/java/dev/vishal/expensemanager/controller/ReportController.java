@@ -0,0 +1,52 @@
+package dev.vishal.expensemanager.controller;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+import dev.common.responseutils.ResponseUtil;
+import dev.common.responseutils.model.ResponseDTO;
+import dev.vishal.expensemanager.dto.ReportDto;
+import dev.vishal.expensemanager.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+@Validated
+public class ReportController {
+
+    private static final long MAX_REPORT_MONTHS = 120;
+
+    private final ReportService reportService;
+
+    @PostMapping("/getMonthlyReport")
+    public ResponseEntity<ResponseDTO> getMonthlyReport(@RequestBody ReportDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getMonthlyReport";
+
+        if (Objects.isNull(dto.getUserId())) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        if (Objects.isNull(dto.getFromMonth()) || Objects.isNull(dto.getToMonth())) {
+            throw new BadRequestException("From month and to month are mandatory!");
+        }
+
+        if (dto.getFromMonth().isAfter(dto.getToMonth())) {
+            throw new BadRequestException("From month must not be after to month!");
+        }
+
+        if (ChronoUnit.MONTHS.between(dto.getFromMonth(), dto.getToMonth()) >= MAX_REPORT_MONTHS) {
+            throw new BadRequestException("At most " + MAX_REPORT_MONTHS + " months are allowed!");
+        }
+
+        return ResponseUtil.sendResponse(
+                reportService.getMonthlyReport(dto), landingTime, HttpStatus.OK, endPoint);
+    }
+}
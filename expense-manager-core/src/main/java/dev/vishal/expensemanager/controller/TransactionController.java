@@ -3,15 +3,27 @@ package dev.vishal.expensemanager.controller;
 import dev.common.exceptionutils.exceptions.BadRequestException;
 import dev.common.responseutils.ResponseUtil;
 import dev.common.responseutils.model.ResponseDTO;
+import dev.vishal.expensemanager.dto.ExportFormat;
+import dev.vishal.expensemanager.dto.TransactionBatchDto;
 import dev.vishal.expensemanager.dto.TransactionDto;
+import dev.common.exceptionutils.exceptions.InternalServerException;
+import dev.vishal.expensemanager.service.TransactionExportService;
+import dev.vishal.expensemanager.service.TransactionImportService;
 import dev.vishal.expensemanager.service.TransactionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -25,7 +37,12 @@ import java.util.UUID;
 @Validated
 public class TransactionController {
 
+    private static final int MAX_BATCH_IDS = 500;
+    private static final int MAX_BATCH_OPERATIONS = 500;
+
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionExportService transactionExportService;
 
     @PostMapping("/createTransaction")
     public ResponseEntity<ResponseDTO> createTransaction(@RequestBody TransactionDto dto) {
@@ -126,6 +143,46 @@ public class TransactionController {
                 transactionService.getTransaction(id, userId), landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping("/getTransactionsByIds/{userId}")
+    public ResponseEntity<ResponseDTO> getTransactionsByIds(
+            @PathVariable UUID userId,
+            @RequestBody List<UUID> ids) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getTransactionsByIds";
+
+        if (Objects.isNull(userId)) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        if (CollectionUtils.isEmpty(ids)) {
+            throw new BadRequestException("Ids are mandatory!");
+        }
+
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new BadRequestException("At most " + MAX_BATCH_IDS + " ids are allowed!");
+        }
+
+        return ResponseUtil.sendResponse(
+                transactionService.getTransactionsByIds(ids, userId), landingTime, HttpStatus.OK, endPoint);
+    }
+
+    @GetMapping("/getTransactionHistory/{userId}/{id}")
+    public ResponseEntity<ResponseDTO> getTransactionHistory(@PathVariable UUID id, @PathVariable UUID userId) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getTransactionHistory";
+
+        if (Objects.isNull(id)) {
+            throw new BadRequestException("Id is mandatory!");
+        }
+
+        if (Objects.isNull(userId)) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        return ResponseUtil.sendResponse(
+                transactionService.getTransactionHistory(id, userId), landingTime, HttpStatus.OK, endPoint);
+    }
+
     @PostMapping("/getAllTransactions")
     public ResponseEntity<ResponseDTO> getAllTransactions(@RequestBody TransactionDto dto) {
         LocalDateTime landingTime = LocalDateTime.now();
@@ -139,6 +196,86 @@ public class TransactionController {
                 transactionService.getAllTransactions(dto), landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping("/getTransactionsPage")
+    public ResponseEntity<ResponseDTO> getTransactionsPage(@RequestBody TransactionDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getTransactionsPage";
+
+        if (Objects.isNull(dto.getUserId())) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        if (Objects.nonNull(dto.getCount()) && dto.getCount() <= 0) {
+            throw new BadRequestException("Count must be greater than 0!");
+        }
+
+        return ResponseUtil.sendResponse(
+                transactionService.getTransactionsPage(dto), landingTime, HttpStatus.OK, endPoint);
+    }
+
+    @PostMapping("/getTransactionSummary")
+    public ResponseEntity<ResponseDTO> getTransactionSummary(@RequestBody TransactionDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getTransactionSummary";
+
+        if (Objects.isNull(dto.getUserId())) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        return ResponseUtil.sendResponse(
+                transactionService.getTransactionSummary(dto), landingTime, HttpStatus.OK, endPoint);
+    }
+
+    @PostMapping("/getBalanceSeries")
+    public ResponseEntity<ResponseDTO> getBalanceSeries(@RequestBody TransactionDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/getBalanceSeries";
+
+        if (Objects.isNull(dto.getUserId())) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        if (CollectionUtils.isEmpty(dto.getAccounts())) {
+            throw new BadRequestException("Accounts are mandatory!");
+        }
+
+        if (!StringUtils.hasText(dto.getTimeBucket())) {
+            throw new BadRequestException("Time bucket is mandatory!");
+        }
+
+        if (Objects.isNull(dto.getStartTime()) || Objects.isNull(dto.getEndTime())) {
+            throw new BadRequestException("Start time and end time are mandatory!");
+        }
+
+        if (dto.getStartTime().isAfter(dto.getEndTime())) {
+            throw new BadRequestException("Start time must not be after end time!");
+        }
+
+        return ResponseUtil.sendResponse(
+                transactionService.getBalanceSeries(dto), landingTime, HttpStatus.OK, endPoint);
+    }
+
+    @PostMapping("/exportTransactions")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestBody TransactionDto dto,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        if (Objects.isNull(dto.getUserId())) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        // Rows are written after this method returns, the export opens its own read-only DB transaction
+        StreamingResponseBody body = out -> transactionExportService.exportTransactions(dto, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
     @PostMapping("/getTransactionNotes")
     public ResponseEntity<ResponseDTO> getTransactionNotes(@RequestBody TransactionDto dto) {
         LocalDateTime landingTime = LocalDateTime.now();
@@ -158,6 +295,51 @@ public class TransactionController {
         return ResponseUtil.sendResponse(notes, landingTime, HttpStatus.OK, endPoint);
     }
 
+    @PostMapping(value = "/importTransactions/{userId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResponseDTO> importTransactions(
+            @PathVariable UUID userId,
+            @RequestPart("file") MultipartFile file) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/importTransactions";
+
+        if (Objects.isNull(userId)) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        if (Objects.isNull(file) || file.isEmpty()) {
+            throw new BadRequestException("File is mandatory!");
+        }
+
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseUtil.sendResponse(
+                    transactionImportService.importCsv(userId, csv), landingTime, HttpStatus.OK, endPoint);
+        } catch (IOException e) {
+            throw new InternalServerException("Unable to read import file: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<ResponseDTO> applyBatch(@RequestBody TransactionBatchDto dto) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/batch";
+
+        if (Objects.isNull(dto.getUserId())) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        if (CollectionUtils.isEmpty(dto.getOperations())) {
+            throw new BadRequestException("Operations are mandatory!");
+        }
+
+        if (dto.getOperations().size() > MAX_BATCH_OPERATIONS) {
+            throw new BadRequestException("At most " + MAX_BATCH_OPERATIONS + " operations are allowed!");
+        }
+
+        // Invalid operations are reported per item, the valid ones are applied in one DB transaction
+        return ResponseUtil.sendResponse(
+                transactionService.applyBatch(dto), landingTime, HttpStatus.OK, endPoint);
+    }
+
     @DeleteMapping("/deleteTransaction/{userId}/{id}")
     public ResponseEntity<ResponseDTO> deleteTransaction(@PathVariable UUID id, @PathVariable UUID userId) {
         LocalDateTime landingTime = LocalDateTime.now();
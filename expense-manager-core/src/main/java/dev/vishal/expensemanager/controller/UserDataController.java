@@ -0,0 +1,37 @@
+package dev.vishal.expensemanager.controller;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+import dev.common.responseutils.ResponseUtil;
+import dev.common.responseutils.model.ResponseDTO;
+import dev.vishal.expensemanager.service.UserDataService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/user")
+@RequiredArgsConstructor
+@Validated
+public class UserDataController {
+
+    private final UserDataService userDataService;
+
+    @DeleteMapping("/deleteUserData/{userId}")
+    public ResponseEntity<ResponseDTO> deleteUserData(@PathVariable UUID userId) {
+        LocalDateTime landingTime = LocalDateTime.now();
+        String endPoint = "/deleteUserData";
+
+        if (Objects.isNull(userId)) {
+            throw new BadRequestException("User Id is mandatory!");
+        }
+
+        return ResponseUtil.sendResponse(
+                userDataService.deleteUserData(userId), landingTime, HttpStatus.OK, endPoint);
+    }
+}
@@ -0,0 +1,24 @@
+package dev.vishal.expensemanager.dao;
+
+import dev.vishal.expensemanager.dto.MonthlyReportDto;
+import dev.vishal.expensemanager.dto.ReportGroup;
+import dev.vishal.expensemanager.entity.Transactions;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface MonthlyRollupDao {
+    void addTransactions(UUID userId, Collection<Transactions> transactions);
+
+    void removeTransactions(UUID userId, Collection<Transactions> transactions);
+
+    void replaceTransactions(UUID userId, Collection<Transactions> removed, Collection<Transactions> added);
+
+    void applyDeltas(UUID userId, MonthlyRollupDeltas deltas);
+
+    List<MonthlyReportDto> findMonthlyTotals(UUID userId, YearMonth fromMonth, YearMonth toMonth, ReportGroup group);
+
+    int deleteAllByUserId(UUID userId);
+}
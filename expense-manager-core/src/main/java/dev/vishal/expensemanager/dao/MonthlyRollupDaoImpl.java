@@ -0,0 +1,131 @@
+package dev.vishal.expensemanager.dao;
+
+import dev.vishal.expensemanager.dao.MonthlyRollupDeltas.RollupDelta;
+import dev.vishal.expensemanager.dao.MonthlyRollupDeltas.RollupKey;
+import dev.vishal.expensemanager.dto.MonthlyReportDto;
+import dev.vishal.expensemanager.dto.ReportGroup;
+import dev.vishal.expensemanager.entity.Transactions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Monthly per-category and per-account rollups, kept in step with transaction writes by applying
+ * the signed amount of every added or removed transaction version as a delta.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MonthlyRollupDaoImpl implements MonthlyRollupDao {
+
+    private static final String UPSERT_ROLLUP = """
+            INSERT INTO %1$s (user_id, month, %2$s, total_credit, total_debit, transaction_count)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, month, %2$s) DO UPDATE SET
+                total_credit = %1$s.total_credit + EXCLUDED.total_credit,
+                total_debit = %1$s.total_debit + EXCLUDED.total_debit,
+                transaction_count = %1$s.transaction_count + EXCLUDED.transaction_count
+            """;
+
+    private static final String UPSERT_CATEGORY_ROLLUP = UPSERT_ROLLUP.formatted("monthly_category_rollup", "category_id");
+    private static final String UPSERT_ACCOUNT_ROLLUP = UPSERT_ROLLUP.formatted("monthly_account_rollup", "account_id");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addTransactions(UUID userId, Collection<Transactions> transactions) {
+        applyDeltas(userId, new MonthlyRollupDeltas().add(transactions));
+    }
+
+    @Override
+    public void removeTransactions(UUID userId, Collection<Transactions> transactions) {
+        applyDeltas(userId, new MonthlyRollupDeltas().remove(transactions));
+    }
+
+    @Override
+    public void replaceTransactions(UUID userId, Collection<Transactions> removed, Collection<Transactions> added) {
+        // Removals and additions merged into one set of deltas, so every writer locks the rollup rows
+        // it touches in the same order, whichever way its transactions moved
+        applyDeltas(userId, new MonthlyRollupDeltas().remove(removed).add(added));
+    }
+
+    @Override
+    public void applyDeltas(UUID userId, MonthlyRollupDeltas deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        upsert(UPSERT_CATEGORY_ROLLUP, userId, deltas.categoryDeltas);
+        upsert(UPSERT_ACCOUNT_ROLLUP, userId, deltas.accountDeltas);
+    }
+
+    @Override
+    public List<MonthlyReportDto> findMonthlyTotals(
+            UUID userId, YearMonth fromMonth, YearMonth toMonth, ReportGroup group) {
+
+        // Table and column names come from the enum only, values are always bound
+        String sql;
+        if (Objects.isNull(group)) {
+            sql = "SELECT month, NULL AS group_id, SUM(total_credit) AS total_credit,"
+                    + " SUM(total_debit) AS total_debit, SUM(transaction_count) AS transaction_count"
+                    + " FROM monthly_account_rollup"
+                    + " WHERE user_id = ? AND month >= ? AND month <= ?"
+                    + " GROUP BY month HAVING SUM(transaction_count) > 0 ORDER BY month";
+        } else {
+            String table = group == ReportGroup.ACCOUNT ? "monthly_account_rollup" : "monthly_category_rollup";
+            String column = group == ReportGroup.ACCOUNT ? "account_id" : "category_id";
+            sql = "SELECT month, " + column + " AS group_id, total_credit, total_debit, transaction_count"
+                    + " FROM " + table
+                    + " WHERE user_id = ? AND month >= ? AND month <= ? AND transaction_count > 0"
+                    + " ORDER BY month, " + column;
+        }
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+                    BigDecimal totalCredit = rs.getBigDecimal("total_credit");
+                    BigDecimal totalDebit = rs.getBigDecimal("total_debit");
+                    Long groupId = rs.getObject("group_id") == null ? null : rs.getLong("group_id");
+
+                    return new MonthlyReportDto(
+                            YearMonth.from(rs.getDate("month").toLocalDate()),
+                            group == ReportGroup.ACCOUNT ? groupId : null,
+                            group == ReportGroup.CATEGORY ? groupId : null,
+                            totalCredit,
+                            totalDebit,
+                            totalCredit.subtract(totalDebit),
+                            rs.getLong("transaction_count"),
+                            null
+                    );
+                },
+                userId, Date.valueOf(fromMonth.atDay(1)), Date.valueOf(toMonth.atDay(1)));
+    }
+
+    @Override
+    public int deleteAllByUserId(UUID userId) {
+        return jdbcTemplate.update("DELETE FROM monthly_category_rollup WHERE user_id = ?", userId)
+                + jdbcTemplate.update("DELETE FROM monthly_account_rollup WHERE user_id = ?", userId);
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private void upsert(String sql, UUID userId, Map<RollupKey, RollupDelta> deltas) {
+        List<Map.Entry<RollupKey, RollupDelta>> rows = new ArrayList<>(deltas.entrySet());
+
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, userId);
+            ps.setDate(2, Date.valueOf(row.getKey().month()));
+            ps.setLong(3, row.getKey().id());
+            ps.setBigDecimal(4, row.getValue().credit);
+            ps.setBigDecimal(5, row.getValue().debit);
+            ps.setLong(6, row.getValue().count);
+        });
+    }
+}
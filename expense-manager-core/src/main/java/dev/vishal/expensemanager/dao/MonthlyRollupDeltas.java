@@ -0,0 +1,70 @@
+package dev.vishal.expensemanager.dao;
+
+import dev.vishal.expensemanager.entity.Transactions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rollup deltas of added and removed transaction versions, one entry per month and category / account.
+ * <p>
+ * Lets a write collect its deltas while it runs and apply them once through
+ * {@link MonthlyRollupDao#applyDeltas}, after its account balance updates, as every other write does.
+ * Entries are kept sorted, so every writer locks the rollup rows it touches in the same order.
+ */
+public class MonthlyRollupDeltas {
+
+    final Map<RollupKey, RollupDelta> categoryDeltas = new TreeMap<>(RollupKey.ORDER);
+    final Map<RollupKey, RollupDelta> accountDeltas = new TreeMap<>(RollupKey.ORDER);
+
+    public MonthlyRollupDeltas add(Collection<Transactions> transactions) {
+        collect(transactions, 1);
+        return this;
+    }
+
+    public MonthlyRollupDeltas remove(Collection<Transactions> transactions) {
+        collect(transactions, -1);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return categoryDeltas.isEmpty() && accountDeltas.isEmpty();
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private void collect(Collection<Transactions> transactions, int sign) {
+        transactions.forEach(txn -> {
+            LocalDate month = txn.getTransactionDatetime().toLocalDate().withDayOfMonth(1);
+            categoryDeltas.computeIfAbsent(new RollupKey(month, txn.getCategoryId()), key -> new RollupDelta())
+                    .add(txn.getAmount(), sign);
+            accountDeltas.computeIfAbsent(new RollupKey(month, txn.getAccountId()), key -> new RollupDelta())
+                    .add(txn.getAmount(), sign);
+        });
+    }
+
+    record RollupKey(LocalDate month, Long id) {
+        private static final Comparator<RollupKey> ORDER =
+                Comparator.comparing(RollupKey::month).thenComparing(RollupKey::id);
+    }
+
+    // Amounts are signed (CREDIT positive, DEBIT negative), both totals are kept as magnitudes
+    static final class RollupDelta {
+        BigDecimal credit = BigDecimal.ZERO;
+        BigDecimal debit = BigDecimal.ZERO;
+        long count;
+
+        private void add(BigDecimal amount, int sign) {
+            if (amount.signum() >= 0) {
+                credit = credit.add(amount.multiply(BigDecimal.valueOf(sign)));
+            } else {
+                debit = debit.add(amount.abs().multiply(BigDecimal.valueOf(sign)));
+            }
+            count += sign;
+        }
+    }
+}
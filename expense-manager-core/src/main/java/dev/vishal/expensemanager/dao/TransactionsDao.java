@@ -1,12 +1,50 @@
 package dev.vishal.expensemanager.dao;
 
+import dev.vishal.expensemanager.dto.BalanceSeriesDto;
+import dev.vishal.expensemanager.dto.NoteCountDto;
+import dev.vishal.expensemanager.dto.OwnedReferencesDto;
+import dev.vishal.expensemanager.dto.TimeBucket;
 import dev.vishal.expensemanager.dto.TransactionDto;
 import dev.vishal.expensemanager.dto.TransactionResponseDto;
+import dev.vishal.expensemanager.dto.TransactionSummaryDto;
+import dev.vishal.expensemanager.dto.TransactionSummaryGroup;
+import dev.vishal.expensemanager.dto.TransactionVersionDto;
+import dev.vishal.expensemanager.entity.Transactions;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface TransactionsDao {
     List<TransactionResponseDto> findTransactions(TransactionDto transactionDto);
 
+    Stream<TransactionResponseDto> streamTransactions(TransactionDto transactionDto);
+
+    List<TransactionResponseDto> findTransactionsByIds(UUID userId, Collection<UUID> logicalTransactionIds);
+
     List<String> findNotes(TransactionDto transactionDto);
+
+    List<NoteCountDto> findNoteCounts(TransactionDto transactionDto);
+
+    List<TransactionSummaryDto> summarizeTransactions(
+            TransactionDto transactionDto, List<TransactionSummaryGroup> groups, TimeBucket timeBucket);
+
+    List<BalanceSeriesDto> findBalanceSeries(TransactionDto transactionDto, TimeBucket timeBucket);
+
+    OwnedReferencesDto findOwnedReferences(UUID userId, Collection<Long> accountIds, Collection<Long> categoryIds);
+
+    void insertTransactions(UUID userId, List<Transactions> transactions);
+
+    void insertTransactionVersions(List<Transactions> transactions);
+
+    int repointLogicalTransactions(Map<UUID, UUID> transactionIdsByLogicalId,
+                                   Map<UUID, UUID> expectedTransactionIdsByLogicalId);
+
+    int softDeleteLogicalTransactions(Collection<UUID> logicalTransactionIds);
+
+    void refreshCurrentTransactions(Collection<UUID> logicalTransactionIds);
+
+    List<TransactionVersionDto> findTransactionVersions(UUID logicalTransactionId);
 }
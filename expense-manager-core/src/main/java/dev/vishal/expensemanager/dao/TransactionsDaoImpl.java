@@ -1,107 +1,250 @@
 package dev.vishal.expensemanager.dao;
 
+import dev.vishal.expensemanager.dto.BalanceSeriesDto;
+import dev.vishal.expensemanager.dto.NoteCountDto;
+import dev.vishal.expensemanager.dto.OwnedReferencesDto;
+import dev.vishal.expensemanager.dto.TimeBucket;
 import dev.vishal.expensemanager.dto.TransactionDto;
 import dev.vishal.expensemanager.dto.TransactionResponseDto;
-import dev.vishal.expensemanager.entity.Account;
-import dev.vishal.expensemanager.entity.Category;
+import dev.vishal.expensemanager.dto.TransactionSummaryDto;
+import dev.vishal.expensemanager.dto.TransactionSummaryGroup;
+import dev.vishal.expensemanager.dto.TransactionVersionDto;
+import dev.vishal.expensemanager.entity.CurrentTransaction;
 import dev.vishal.expensemanager.entity.LogicalTransaction;
 import dev.vishal.expensemanager.entity.Transactions;
+import dev.vishal.expensemanager.helper.TransactionCursor;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
+@RequiredArgsConstructor
 public class TransactionsDaoImpl implements TransactionsDao {
 
+    private static final char LIKE_ESCAPE = '\\';
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final String INSERT_TRANSACTION =
+            "INSERT INTO transactions (id, logical_transaction_id, version_number, amount, note, transaction_type,"
+                    + " account_id, category_id, transaction_datetime, created_on, updated_on, is_deleted)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+    private static final String INSERT_LOGICAL_TRANSACTION =
+            "INSERT INTO logical_transaction (id, transaction_id, user_id, created_on, updated_on, is_deleted)"
+                    + " VALUES (?, ?, ?, ?, ?, false)";
+
+    // Only moves a pointer still at the expected version, the caller checks the row count
+    private static final String REPOINT_LOGICAL_TRANSACTION =
+            "UPDATE logical_transaction SET transaction_id = ?, updated_on = ?"
+                    + " WHERE id = ? AND transaction_id = ? AND is_deleted = false";
+
+    private static final String SOFT_DELETE_LOGICAL_TRANSACTION =
+            "UPDATE logical_transaction SET is_deleted = true, updated_on = ? WHERE id = ? AND is_deleted = false";
+
+    // Key share locks on the referenced rows, in id order, so a rename cannot commit between reading
+    // a name and writing it to the read model. Balance updates take weaker locks and do not conflict
+    private static final String LOCK_REFERENCED_ACCOUNTS = """
+            SELECT a.id FROM account a
+            WHERE a.id IN (
+                SELECT t.account_id
+                FROM logical_transaction lt
+                JOIN transactions t ON t.id = lt.transaction_id
+                WHERE lt.id IN (:logicalTransactionIds)
+            )
+            ORDER BY a.id
+            FOR KEY SHARE
+            """;
+
+    private static final String LOCK_REFERENCED_CATEGORIES = """
+            SELECT c.id FROM category c
+            WHERE c.id IN (
+                SELECT t.category_id
+                FROM logical_transaction lt
+                JOIN transactions t ON t.id = lt.transaction_id
+                WHERE lt.id IN (:logicalTransactionIds)
+            )
+            ORDER BY c.id
+            FOR KEY SHARE
+            """;
+
+    // Rebuilds read model rows from the source tables, rows whose transaction is no longer live are left alone
+    private static final String UPSERT_CURRENT_TRANSACTIONS = """
+            INSERT INTO current_transaction (logical_transaction_id, user_id, transaction_id, amount, note,
+                    transaction_type, transaction_datetime, account_id, account_name, category_id, category_name,
+                    created_on, updated_on)
+            SELECT lt.id, lt.user_id, t.id, t.amount, t.note, t.transaction_type, t.transaction_datetime,
+                   a.id, a.name, c.id, c.name, t.created_on, t.updated_on
+            FROM logical_transaction lt
+            JOIN transactions t ON t.id = lt.transaction_id
+            JOIN account a ON a.id = t.account_id
+            JOIN category c ON c.id = t.category_id
+            WHERE lt.id IN (:logicalTransactionIds) AND lt.is_deleted = false AND t.is_deleted = false
+            ON CONFLICT (logical_transaction_id) DO UPDATE SET
+                transaction_id = EXCLUDED.transaction_id,
+                amount = EXCLUDED.amount,
+                note = EXCLUDED.note,
+                transaction_type = EXCLUDED.transaction_type,
+                transaction_datetime = EXCLUDED.transaction_datetime,
+                account_id = EXCLUDED.account_id,
+                account_name = EXCLUDED.account_name,
+                category_id = EXCLUDED.category_id,
+                category_name = EXCLUDED.category_name,
+                created_on = EXCLUDED.created_on,
+                updated_on = EXCLUDED.updated_on
+            """;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final JdbcTemplate jdbcTemplate;
+
     @Override
     public List<TransactionResponseDto> findTransactions(TransactionDto dto) {
+        return createTransactionsQuery(dto).getResultList();
+    }
 
+    @Override
+    public Stream<TransactionResponseDto> streamTransactions(TransactionDto dto) {
+        // Rows are pulled from a server-side cursor in pages of EXPORT_FETCH_SIZE, needs an open transaction
+        return createTransactionsQuery(dto)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public List<TransactionResponseDto> findTransactionsByIds(UUID userId, Collection<UUID> logicalTransactionIds) {
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<TransactionResponseDto> criteriaQuery = criteriaBuilder.createQuery(TransactionResponseDto.class);
+        Root<CurrentTransaction> currentTransactionRoot = criteriaQuery.from(CurrentTransaction.class);
 
-        Root<Transactions> transactionRoot = criteriaQuery.from(Transactions.class);
-        Root<LogicalTransaction> logicalTransactionRoot = criteriaQuery.from(LogicalTransaction.class);
-        Root<Account> bankAccountRoot = criteriaQuery.from(Account.class);
-        Root<Category> categoryRoot = criteriaQuery.from(Category.class);
+        // Primary key IN lookup, the user id keeps other users' transactions out
+        criteriaQuery.select(selectTransactionResponse(criteriaBuilder, currentTransactionRoot))
+                .where(
+                        currentTransactionRoot.get("logicalTransactionId").in(logicalTransactionIds),
+                        criteriaBuilder.equal(currentTransactionRoot.get("userId"), userId)
+                );
 
-        criteriaQuery.select(criteriaBuilder.construct(
-                TransactionResponseDto.class,
-                logicalTransactionRoot.get("id"),
-                transactionRoot.get("amount"),
-                transactionRoot.get("note"),
-                transactionRoot.get("transactionType"),
-                transactionRoot.get("transactionDatetime"),
-                bankAccountRoot.get("id"),
-                bankAccountRoot.get("name"),
-                categoryRoot.get("id"),
-                categoryRoot.get("name"),
-                transactionRoot.get("id"),
-                transactionRoot.get("createdOn"),
-                transactionRoot.get("updatedOn")
-        ));
+        return entityManager.createQuery(criteriaQuery).getResultList();
+    }
+
+    private TypedQuery<TransactionResponseDto> createTransactionsQuery(TransactionDto dto) {
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponseDto> criteriaQuery = criteriaBuilder.createQuery(TransactionResponseDto.class);
+
+        // Single-table read model, only live transactions have a row, names are denormalized
+        Root<CurrentTransaction> currentTransactionRoot = criteriaQuery.from(CurrentTransaction.class);
+
+        criteriaQuery.select(selectTransactionResponse(criteriaBuilder, currentTransactionRoot));
 
         List<Predicate> predicates = new ArrayList<>();
 
-        predicates.add(criteriaBuilder.equal(logicalTransactionRoot.get("userId"), dto.getUserId()));
-        predicates.add(criteriaBuilder.equal(logicalTransactionRoot.get("transactionId"), transactionRoot.get("id")));
-        predicates.add(criteriaBuilder.equal(transactionRoot.get("accountId"), bankAccountRoot.get("id")));
-        predicates.add(criteriaBuilder.equal(transactionRoot.get("categoryId"), categoryRoot.get("id")));
-        predicates.add(criteriaBuilder.equal(transactionRoot.get("isDeleted"), false));
+        predicates.add(criteriaBuilder.equal(currentTransactionRoot.get("userId"), dto.getUserId()));
 
         // filters
 
         // time filter
         if (Objects.nonNull(dto.getStartTime()) && Objects.nonNull(dto.getEndTime())) {
-            predicates.add(criteriaBuilder.greaterThanOrEqualTo(transactionRoot.get("transactionDatetime"), dto.getStartTime()));
-            predicates.add(criteriaBuilder.lessThanOrEqualTo(transactionRoot.get("transactionDatetime"), dto.getEndTime()));
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(currentTransactionRoot.get("transactionDatetime"), dto.getStartTime()));
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(currentTransactionRoot.get("transactionDatetime"), dto.getEndTime()));
         }
 
         // bank account filter
         if (!CollectionUtils.isEmpty(dto.getAccounts())) {
-            predicates.add(transactionRoot.get("accountId").in(dto.getAccounts()));
+            predicates.add(currentTransactionRoot.get("accountId").in(dto.getAccounts()));
         }
 
         // category filter
         if (!CollectionUtils.isEmpty(dto.getCategories())) {
-            predicates.add(transactionRoot.get("categoryId").in(dto.getCategories()));
+            predicates.add(currentTransactionRoot.get("categoryId").in(dto.getCategories()));
         }
 
         // type filter
         if (Objects.nonNull(dto.getTransactionType())) {
-            predicates.add(criteriaBuilder.equal(transactionRoot.get("transactionType"), (dto.getTransactionType())));
+            predicates.add(criteriaBuilder.equal(currentTransactionRoot.get("transactionType"), (dto.getTransactionType())));
         }
 
         // search by note filter
         if (StringUtils.hasText(dto.getNoteLike())) {
             predicates.add(
                     criteriaBuilder.like(
-                            criteriaBuilder.lower(transactionRoot.get("note")),
-                            "%" + dto.getNoteLike().toLowerCase() + "%"
+                            criteriaBuilder.lower(currentTransactionRoot.get("note")),
+                            "%" + escapeLike(dto.getNoteLike().toLowerCase()) + "%",
+                            LIKE_ESCAPE
                     )
             );
         }
 
+        // keyset pagination, continue strictly after the cursor row in sort order
+        if (StringUtils.hasText(dto.getCursor())) {
+            TransactionCursor cursor = TransactionCursor.decode(dto.getCursor());
+            Path<LocalDateTime> datetime = currentTransactionRoot.get("transactionDatetime");
+            Path<UUID> id = currentTransactionRoot.get("transactionId");
+
+            if (dto.getOrderByAsc()) {
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(datetime, cursor.getTransactionDatetime()),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(datetime, cursor.getTransactionDatetime()),
+                                criteriaBuilder.greaterThan(id, cursor.getTransactionId())
+                        )
+                ));
+            } else {
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.lessThan(datetime, cursor.getTransactionDatetime()),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(datetime, cursor.getTransactionDatetime()),
+                                criteriaBuilder.lessThan(id, cursor.getTransactionId())
+                        )
+                ));
+            }
+        }
+
         criteriaQuery.where(predicates.toArray(Predicate[]::new));
 
-        // sorting
+        // sorting, id breaks ties so that the cursor position is unique
         if (dto.getOrderByAsc()) {
-            criteriaQuery.orderBy(criteriaBuilder.asc(transactionRoot.get("transactionDatetime")));
+            criteriaQuery.orderBy(
+                    criteriaBuilder.asc(currentTransactionRoot.get("transactionDatetime")),
+                    criteriaBuilder.asc(currentTransactionRoot.get("transactionId"))
+            );
         } else {
-            criteriaQuery.orderBy(criteriaBuilder.desc(transactionRoot.get("transactionDatetime")));
+            criteriaQuery.orderBy(
+                    criteriaBuilder.desc(currentTransactionRoot.get("transactionDatetime")),
+                    criteriaBuilder.desc(currentTransactionRoot.get("transactionId"))
+            );
         }
 
         TypedQuery<TransactionResponseDto> query = entityManager.createQuery(criteriaQuery);
@@ -111,7 +254,7 @@ public class TransactionsDaoImpl implements TransactionsDao {
             query.setMaxResults(dto.getCount().intValue());
         }
 
-        return query.getResultList();
+        return query;
     }
 
     @Override
@@ -127,16 +270,22 @@ public class TransactionsDaoImpl implements TransactionsDao {
         Predicate joinCondition =
                 criteriaBuilder.equal(logicalTransactionRoot.get("transactionId"), transactionRoot.get("id"));
         Predicate notDeleted = criteriaBuilder.equal(logicalTransactionRoot.get("isDeleted"), false);
-        Predicate noteLike = criteriaBuilder.like(
-                criteriaBuilder.lower(transactionRoot.get("note")),
-                "%" + transactionDto.getNoteLike().toLowerCase() + "%"
-        );
+        // lower(note) LIKE is served by the pg_trgm GIN index on lower(note)
+        String search = escapeLike(transactionDto.getNoteLike().toLowerCase());
+        Expression<String> lowerNote = criteriaBuilder.lower(transactionRoot.get("note"));
+        Predicate noteLike = criteriaBuilder.like(lowerNote, "%" + search + "%", LIKE_ESCAPE);
+        Expression<Integer> prefixRank = criteriaBuilder.<Integer>selectCase()
+                .when(criteriaBuilder.like(lowerNote, search + "%", LIKE_ESCAPE), 0)
+                .otherwise(1);
 
         // select note only
         criteriaQuery.select(transactionRoot.get("note"))
                 .where(criteriaBuilder.and(userIdCondition, joinCondition, notDeleted, noteLike))
                 .groupBy(transactionRoot.get("note")) // ensures uniqueness
-                .orderBy(criteriaBuilder.desc(criteriaBuilder.count(transactionRoot.get("note")))); // most frequent first
+                .orderBy(
+                        criteriaBuilder.asc(prefixRank), // prefix matches first
+                        criteriaBuilder.desc(criteriaBuilder.count(transactionRoot.get("note"))) // most frequent first
+                );
 
         TypedQuery<String> query = entityManager.createQuery(criteriaQuery);
         query.setMaxResults(15);
@@ -144,4 +293,384 @@ public class TransactionsDaoImpl implements TransactionsDao {
         return query.getResultList();
     }
 
+    @Override
+    public List<NoteCountDto> findNoteCounts(TransactionDto transactionDto) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<NoteCountDto> criteriaQuery = criteriaBuilder.createQuery(NoteCountDto.class);
+
+        Root<Transactions> transactionRoot = criteriaQuery.from(Transactions.class);
+        Root<LogicalTransaction> logicalTransactionRoot = criteriaQuery.from(LogicalTransaction.class);
+
+        Predicate userIdCondition =
+                criteriaBuilder.equal(logicalTransactionRoot.get("userId"), transactionDto.getUserId());
+        Predicate joinCondition =
+                criteriaBuilder.equal(logicalTransactionRoot.get("transactionId"), transactionRoot.get("id"));
+        Predicate notDeleted = criteriaBuilder.equal(logicalTransactionRoot.get("isDeleted"), false);
+        Predicate hasNote = criteriaBuilder.isNotNull(transactionRoot.get("note"));
+
+        // every distinct note with its usage count, most frequent first
+        criteriaQuery.select(criteriaBuilder.construct(
+                        NoteCountDto.class,
+                        transactionRoot.get("note"),
+                        criteriaBuilder.count(transactionRoot.get("note"))
+                ))
+                .where(criteriaBuilder.and(userIdCondition, joinCondition, notDeleted, hasNote))
+                .groupBy(transactionRoot.get("note"))
+                .orderBy(criteriaBuilder.desc(criteriaBuilder.count(transactionRoot.get("note"))));
+
+        TypedQuery<NoteCountDto> query = entityManager.createQuery(criteriaQuery);
+
+        // limit
+        if (Objects.nonNull(transactionDto.getCount())) {
+            query.setMaxResults(transactionDto.getCount().intValue());
+        }
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<TransactionSummaryDto> summarizeTransactions(
+            TransactionDto dto, List<TransactionSummaryGroup> groups, TimeBucket timeBucket) {
+
+        // Group columns come from enums only, filter values are always bound
+        List<String> groupColumns = new ArrayList<>();
+        List<String> selectColumns = new ArrayList<>();
+
+        if (groups.contains(TransactionSummaryGroup.ACCOUNT)) {
+            groupColumns.add("t.account_id");
+            selectColumns.add("t.account_id AS account_id");
+        }
+
+        if (groups.contains(TransactionSummaryGroup.CATEGORY)) {
+            groupColumns.add("t.category_id");
+            selectColumns.add("t.category_id AS category_id");
+        }
+
+        if (groups.contains(TransactionSummaryGroup.TYPE)) {
+            groupColumns.add("t.transaction_type");
+            selectColumns.add("t.transaction_type AS transaction_type");
+        }
+
+        if (Objects.nonNull(timeBucket)) {
+            String bucket = "date_trunc('" + timeBucket.name().toLowerCase() + "', t.transaction_datetime)";
+            groupColumns.add(bucket);
+            selectColumns.add(bucket + " AS bucket");
+        }
+
+        selectColumns.add("SUM(t.amount) AS total");
+        selectColumns.add("COUNT(*) AS count");
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT ").append(String.join(", ", selectColumns))
+                .append(" FROM logical_transaction lt")
+                .append(" JOIN transactions t ON t.id = lt.transaction_id")
+                .append(" WHERE lt.user_id = :userId AND lt.is_deleted = false AND t.is_deleted = false");
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userId", dto.getUserId());
+
+        // filters
+
+        // time filter
+        if (Objects.nonNull(dto.getStartTime()) && Objects.nonNull(dto.getEndTime())) {
+            sql.append(" AND t.transaction_datetime >= :startTime AND t.transaction_datetime <= :endTime");
+            parameters.put("startTime", dto.getStartTime());
+            parameters.put("endTime", dto.getEndTime());
+        }
+
+        // bank account filter
+        if (!CollectionUtils.isEmpty(dto.getAccounts())) {
+            sql.append(" AND t.account_id IN (:accounts)");
+            parameters.put("accounts", dto.getAccounts());
+        }
+
+        // category filter
+        if (!CollectionUtils.isEmpty(dto.getCategories())) {
+            sql.append(" AND t.category_id IN (:categories)");
+            parameters.put("categories", dto.getCategories());
+        }
+
+        // type filter
+        if (Objects.nonNull(dto.getTransactionType())) {
+            sql.append(" AND t.transaction_type = :transactionType");
+            parameters.put("transactionType", dto.getTransactionType());
+        }
+
+        if (!groupColumns.isEmpty()) {
+            String groupBy = String.join(", ", groupColumns);
+            sql.append(" GROUP BY ").append(groupBy).append(" ORDER BY ").append(groupBy);
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Tuple.class);
+        parameters.forEach(query::setParameter);
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+
+        return rows.stream()
+                .map(row -> new TransactionSummaryDto(
+                        groups.contains(TransactionSummaryGroup.ACCOUNT) ? toLong(row.get("account_id")) : null,
+                        groups.contains(TransactionSummaryGroup.CATEGORY) ? toLong(row.get("category_id")) : null,
+                        groups.contains(TransactionSummaryGroup.TYPE) ? (String) row.get("transaction_type") : null,
+                        Objects.nonNull(timeBucket) ? toLocalDateTime(row.get("bucket")) : null,
+                        Objects.isNull(row.get("total")) ? BigDecimal.ZERO : (BigDecimal) row.get("total"),
+                        toLong(row.get("count"))
+                ))
+                .toList();
+    }
+
+    @Override
+    public List<BalanceSeriesDto> findBalanceSeries(TransactionDto dto, TimeBucket timeBucket) {
+        // Rows before the range share one NULL bucket, its running total is the opening balance
+        String bucket = "date_trunc('" + timeBucket.name().toLowerCase() + "', transaction_datetime)";
+        String sql = """
+                SELECT account_id, bucket,
+                       SUM(bucket_total) OVER (PARTITION BY account_id ORDER BY bucket NULLS FIRST) AS balance
+                FROM (
+                    SELECT account_id,
+                           CASE WHEN transaction_datetime < :startTime THEN NULL ELSE %s END AS bucket,
+                           SUM(amount) AS bucket_total
+                    FROM current_transaction
+                    WHERE user_id = :userId AND account_id IN (:accounts) AND transaction_datetime <= :endTime
+                    GROUP BY 1, 2
+                ) totals
+                ORDER BY account_id, bucket NULLS FIRST
+                """.formatted(bucket);
+
+        Query query = entityManager.createNativeQuery(sql, Tuple.class);
+        query.setParameter("userId", dto.getUserId());
+        query.setParameter("accounts", dto.getAccounts());
+        query.setParameter("startTime", dto.getStartTime());
+        query.setParameter("endTime", dto.getEndTime());
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+
+        // Every requested account gets a series in request order, accounts without rows keep a zero opening
+        // balance and empty arrays
+        Map<Long, BalanceSeriesDto> series = new LinkedHashMap<>();
+        dto.getAccounts().forEach(accountId -> series.computeIfAbsent(accountId, BalanceSeriesDto::new));
+        rows.forEach(row -> {
+            BalanceSeriesDto accountSeries =
+                    series.computeIfAbsent(toLong(row.get("account_id")), BalanceSeriesDto::new);
+            BigDecimal balance = (BigDecimal) row.get("balance");
+
+            if (Objects.isNull(row.get("bucket"))) {
+                accountSeries.setOpeningBalance(balance);
+            } else {
+                accountSeries.getBuckets().add(toLocalDateTime(row.get("bucket")).toLocalDate());
+                accountSeries.getBalances().add(balance);
+            }
+        });
+
+        return new ArrayList<>(series.values());
+    }
+
+    @Override
+    public OwnedReferencesDto findOwnedReferences(
+            UUID userId, Collection<Long> accountIds, Collection<Long> categoryIds) {
+
+        // Account and category ownership in one round trip, -1 keeps IN () valid for empty inputs
+        Query query = entityManager.createNativeQuery(
+                "SELECT 'A', id FROM account WHERE user_id = :userId AND is_deleted = false AND id IN (:accountIds)"
+                        + " UNION ALL"
+                        + " SELECT 'C', id FROM category WHERE user_id = :userId AND is_deleted = false"
+                        + " AND id IN (:categoryIds)");
+        query.setParameter("userId", userId);
+        query.setParameter("accountIds", accountIds.isEmpty() ? List.of(-1L) : accountIds);
+        query.setParameter("categoryIds", categoryIds.isEmpty() ? List.of(-1L) : categoryIds);
+
+        Set<Long> ownedAccountIds = new HashSet<>();
+        Set<Long> ownedCategoryIds = new HashSet<>();
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        rows.forEach(row -> {
+            Long id = toLong(row[1]);
+            if ("A".equals(String.valueOf(row[0]))) {
+                ownedAccountIds.add(id);
+            } else {
+                ownedCategoryIds.add(id);
+            }
+        });
+
+        return new OwnedReferencesDto(ownedAccountIds, ownedCategoryIds);
+    }
+
+    @Override
+    public void insertTransactions(UUID userId, List<Transactions> transactions) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Plain JDBC batches, rewritten by the driver into multi-row INSERTs (reWriteBatchedInserts)
+        batchInsertTransactionRows(transactions, now);
+
+        jdbcTemplate.batchUpdate(INSERT_LOGICAL_TRANSACTION, transactions, transactions.size(), (ps, txn) -> {
+            ps.setObject(1, txn.getLogicalTransactionId());
+            ps.setObject(2, txn.getId());
+            ps.setObject(3, userId);
+            ps.setObject(4, now);
+            ps.setObject(5, now);
+        });
+
+        refreshCurrentTransactions(transactions.stream().map(Transactions::getLogicalTransactionId).toList());
+    }
+
+    @Override
+    public void insertTransactionVersions(List<Transactions> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        batchInsertTransactionRows(transactions, LocalDateTime.now());
+    }
+
+    @Override
+    public int repointLogicalTransactions(Map<UUID, UUID> transactionIdsByLogicalId,
+                                          Map<UUID, UUID> expectedTransactionIdsByLogicalId) {
+        if (transactionIdsByLogicalId.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Map.Entry<UUID, UUID>> pointers = new ArrayList<>(transactionIdsByLogicalId.entrySet());
+
+        return sumRowCounts(jdbcTemplate.batchUpdate(REPOINT_LOGICAL_TRANSACTION, pointers, pointers.size(),
+                (ps, pointer) -> {
+                    ps.setObject(1, pointer.getValue());
+                    ps.setObject(2, now);
+                    ps.setObject(3, pointer.getKey());
+                    ps.setObject(4, expectedTransactionIdsByLogicalId.get(pointer.getKey()));
+                }));
+    }
+
+    @Override
+    public int softDeleteLogicalTransactions(Collection<UUID> logicalTransactionIds) {
+        if (logicalTransactionIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> ids = new ArrayList<>(logicalTransactionIds);
+
+        return sumRowCounts(jdbcTemplate.batchUpdate(SOFT_DELETE_LOGICAL_TRANSACTION, ids, ids.size(), (ps, id) -> {
+            ps.setObject(1, now);
+            ps.setObject(2, id);
+        }));
+    }
+
+    @Override
+    public void refreshCurrentTransactions(Collection<UUID> logicalTransactionIds) {
+        if (logicalTransactionIds.isEmpty()) {
+            return;
+        }
+
+        // Pending entity changes must reach the DB first, the upsert reads the source rows
+        entityManager.flush();
+        entityManager.createNativeQuery(LOCK_REFERENCED_ACCOUNTS)
+                .setParameter("logicalTransactionIds", logicalTransactionIds)
+                .getResultList();
+        entityManager.createNativeQuery(LOCK_REFERENCED_CATEGORIES)
+                .setParameter("logicalTransactionIds", logicalTransactionIds)
+                .getResultList();
+        entityManager.createNativeQuery(UPSERT_CURRENT_TRANSACTIONS)
+                .setParameter("logicalTransactionIds", logicalTransactionIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<TransactionVersionDto> findTransactionVersions(UUID logicalTransactionId) {
+        // Versions not yet compacted are still in transactions, including the current one
+        String sql = """
+                SELECT h.id, h.version_number, h.amount, h.note, h.transaction_type, h.transaction_datetime,
+                       h.account_id, h.category_id, h.created_on, true AS archived
+                FROM transactions_history h
+                WHERE h.logical_transaction_id = :logicalTransactionId
+                UNION ALL
+                SELECT t.id, t.version_number, t.amount, t.note, t.transaction_type, t.transaction_datetime,
+                       t.account_id, t.category_id, t.created_on, false AS archived
+                FROM transactions t
+                WHERE t.logical_transaction_id = :logicalTransactionId
+                ORDER BY version_number
+                """;
+
+        Query query = entityManager.createNativeQuery(sql, Tuple.class);
+        query.setParameter("logicalTransactionId", logicalTransactionId);
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+
+        return rows.stream()
+                .map(row -> new TransactionVersionDto(
+                        (UUID) row.get("id"),
+                        toLong(row.get("version_number")),
+                        (BigDecimal) row.get("amount"),
+                        (String) row.get("note"),
+                        (String) row.get("transaction_type"),
+                        toLocalDateTime(row.get("transaction_datetime")),
+                        toLong(row.get("account_id")),
+                        toLong(row.get("category_id")),
+                        toLocalDateTime(row.get("created_on")),
+                        (Boolean) row.get("archived")
+                ))
+                .toList();
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private void batchInsertTransactionRows(List<Transactions> transactions, LocalDateTime now) {
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactions, transactions.size(), (ps, txn) -> {
+            ps.setObject(1, txn.getId());
+            ps.setObject(2, txn.getLogicalTransactionId());
+            ps.setLong(3, txn.getVersionNumber());
+            ps.setBigDecimal(4, txn.getAmount());
+            ps.setString(5, txn.getNote());
+            ps.setString(6, txn.getTransactionType());
+            ps.setLong(7, txn.getAccountId());
+            ps.setLong(8, txn.getCategoryId());
+            ps.setObject(9, txn.getTransactionDatetime());
+            ps.setObject(10, now);
+            ps.setObject(11, now);
+        });
+    }
+
+    private int sumRowCounts(int[][] rowCounts) {
+        return Arrays.stream(rowCounts).flatMapToInt(Arrays::stream).sum();
+    }
+
+    private CompoundSelection<TransactionResponseDto> selectTransactionResponse(
+            CriteriaBuilder criteriaBuilder, Root<CurrentTransaction> currentTransactionRoot) {
+        return criteriaBuilder.construct(
+                TransactionResponseDto.class,
+                currentTransactionRoot.get("logicalTransactionId"),
+                currentTransactionRoot.get("amount"),
+                currentTransactionRoot.get("note"),
+                currentTransactionRoot.get("transactionType"),
+                currentTransactionRoot.get("transactionDatetime"),
+                currentTransactionRoot.get("accountId"),
+                currentTransactionRoot.get("accountName"),
+                currentTransactionRoot.get("categoryId"),
+                currentTransactionRoot.get("categoryName"),
+                currentTransactionRoot.get("transactionId"),
+                currentTransactionRoot.get("createdOn"),
+                currentTransactionRoot.get("updatedOn")
+        );
+    }
+
+    private String escapeLike(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private Long toLong(Object value) {
+        return Objects.isNull(value) ? null : ((Number) value).longValue();
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
 }
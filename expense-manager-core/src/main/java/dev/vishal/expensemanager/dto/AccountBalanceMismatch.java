@@ -0,0 +1,11 @@
+package dev.vishal.expensemanager.dto;
+
+import java.math.BigDecimal;
+
+public interface AccountBalanceMismatch {
+    Long getAccountId();
+
+    BigDecimal getBalance();
+
+    BigDecimal getExpected();
+}
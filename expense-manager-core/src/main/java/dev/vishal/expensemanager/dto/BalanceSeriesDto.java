@@ -0,0 +1,30 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Running balance of one account in columnar form, {@code balances[i]} is the balance at the end
+ * of the bucket starting on {@code buckets[i]}. Buckets without transactions are left out, the
+ * balance carries over from the previous bucket. An account without transactions in the range has
+ * a zero opening balance and empty arrays.
+ */
+@Data
+public class BalanceSeriesDto {
+    private Long accountId;
+
+    // Balance before the first bucket of the range
+    private BigDecimal openingBalance;
+
+    private List<LocalDate> buckets = new ArrayList<>();
+    private List<BigDecimal> balances = new ArrayList<>();
+
+    public BalanceSeriesDto(Long accountId) {
+        this.accountId = accountId;
+        this.openingBalance = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,18 @@
+package dev.vishal.expensemanager.dto;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+
+import java.util.Arrays;
+
+public enum BatchOperation {
+    CREATE,
+    UPDATE,
+    DELETE;
+
+    public static BatchOperation from(String value) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException(value + " is not a valid operation!"));
+    }
+}
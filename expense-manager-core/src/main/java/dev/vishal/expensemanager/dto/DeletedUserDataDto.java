@@ -0,0 +1,12 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DeletedUserDataDto {
+    private int deletedAccounts;
+    private int deletedCategories;
+    private int deletedTransactions;
+}
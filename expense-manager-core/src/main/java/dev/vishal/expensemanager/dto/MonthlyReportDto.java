@@ -0,0 +1,30 @@
+package dev.vishal.expensemanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MonthlyReportDto {
+    private YearMonth month;
+
+    // Group keys, null when not grouped by that dimension
+    private Long accountId;
+    private Long categoryId;
+
+    // Positive magnitudes, net = credit - debit
+    private BigDecimal totalCredit;
+    private BigDecimal totalDebit;
+    private BigDecimal net;
+    private Long count;
+
+    // Net of this month minus the previous month of the same group
+    private BigDecimal netChange;
+}
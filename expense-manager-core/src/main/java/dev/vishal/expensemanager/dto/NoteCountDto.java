@@ -0,0 +1,11 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class NoteCountDto {
+    private String note;
+    private Long count;
+}
@@ -0,0 +1,14 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+public class OwnedReferencesDto {
+    // Ids of the requested accounts / categories that belong to the user and are not deleted
+    private Set<Long> accountIds;
+    private Set<Long> categoryIds;
+}
@@ -0,0 +1,17 @@
+package dev.vishal.expensemanager.dto;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+
+import java.util.Arrays;
+
+public enum ReportGroup {
+    ACCOUNT,
+    CATEGORY;
+
+    public static ReportGroup from(String value) {
+        return Arrays.stream(values())
+                .filter(group -> group.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException(value + " is not a valid report group!"));
+    }
+}
@@ -0,0 +1,26 @@
+package dev.vishal.expensemanager.dto;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+@Getter
+@AllArgsConstructor
+public enum TimeBucket {
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS),
+    MONTH(ChronoUnit.MONTHS),
+    YEAR(ChronoUnit.YEARS);
+
+    private final ChronoUnit unit;
+
+    public static TimeBucket from(String value) {
+        return Arrays.stream(values())
+                .filter(bucket -> bucket.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException(value + " is not a valid time bucket!"));
+    }
+}
@@ -0,0 +1,30 @@
+package dev.vishal.expensemanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionBatchResultDto {
+    // Position of the operation in the request
+    private int index;
+    private String operation;
+
+    // Logical transaction id, assigned for creates
+    private UUID id;
+
+    private boolean success;
+    private String message;
+
+    public static TransactionBatchResultDto success(int index, BatchOperation operation, UUID id) {
+        return new TransactionBatchResultDto(index, operation.name(), id, true, null);
+    }
+
+    public static TransactionBatchResultDto failure(int index, String operation, UUID id, String message) {
+        return new TransactionBatchResultDto(index, operation, id, false, message);
+    }
+}
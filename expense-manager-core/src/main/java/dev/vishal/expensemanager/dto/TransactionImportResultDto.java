@@ -0,0 +1,22 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class TransactionImportResultDto {
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+
+    // Capped, failedRows holds the full count
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    public static class RowError {
+        private final long row;
+        private final String message;
+    }
+}
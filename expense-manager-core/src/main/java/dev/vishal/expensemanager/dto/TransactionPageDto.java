@@ -0,0 +1,15 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TransactionPageDto {
+    private List<TransactionResponseDto> transactions;
+
+    // Null when there are no more pages
+    private String nextCursor;
+}
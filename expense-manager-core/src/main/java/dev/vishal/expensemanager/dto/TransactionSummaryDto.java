@@ -0,0 +1,23 @@
+package dev.vishal.expensemanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionSummaryDto {
+    // Group keys, null when not grouped by that dimension
+    private Long accountId;
+    private Long categoryId;
+    private String transactionType;
+    private LocalDateTime bucket;
+
+    // Signed total (CREDIT positive, DEBIT negative)
+    private BigDecimal total;
+    private Long count;
+}
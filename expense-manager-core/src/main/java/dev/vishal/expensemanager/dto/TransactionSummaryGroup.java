@@ -0,0 +1,18 @@
+package dev.vishal.expensemanager.dto;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+
+import java.util.Arrays;
+
+public enum TransactionSummaryGroup {
+    ACCOUNT,
+    CATEGORY,
+    TYPE;
+
+    public static TransactionSummaryGroup from(String value) {
+        return Arrays.stream(values())
+                .filter(group -> group.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException(value + " is not a valid group!"));
+    }
+}
@@ -0,0 +1,25 @@
+package dev.vishal.expensemanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class TransactionVersionDto {
+    private UUID transactionId;
+    private Long versionNumber;
+    private BigDecimal amount;
+    private String note;
+    private String transactionType;
+    private LocalDateTime transactionDatetime;
+    private Long accountId;
+    private Long categoryId;
+    private LocalDateTime createdOn;
+
+    // true when read from transactions_history
+    private Boolean archived;
+}
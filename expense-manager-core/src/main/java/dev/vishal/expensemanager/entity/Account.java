@@ -34,8 +34,8 @@ public class Account {
     @Column(name = "is_deleted")
     private Boolean isDeleted;
 
-    // Cached balance
-    @Transient
+    // Maintained by transaction writes through AccountRepository.addToBalance, never by entity saves
+    @Column(name = "balance", insertable = false, updatable = false)
     private BigDecimal balance;
 
     @PrePersist
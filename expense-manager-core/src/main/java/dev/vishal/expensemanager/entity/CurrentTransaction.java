@@ -0,0 +1,61 @@
+package dev.vishal.expensemanager.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model row, one per live logical transaction, holding its current version and the
+ * account / category names. Written only through {@code TransactionsDao} and
+ * {@code CurrentTransactionRepository} SQL in the same DB transaction as the source rows.
+ */
+@Data
+@Entity
+@Immutable
+@Table(name = "current_transaction")
+public class CurrentTransaction {
+
+    @Id
+    @Column(name = "logical_transaction_id", columnDefinition = "uuid")
+    private UUID logicalTransactionId;
+
+    @Column(name = "user_id", columnDefinition = "uuid", nullable = false)
+    private UUID userId;
+
+    @Column(name = "transaction_id", columnDefinition = "uuid", nullable = false)
+    private UUID transactionId;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "note")
+    private String note;
+
+    @Column(name = "transaction_type", nullable = false)
+    private String transactionType;
+
+    @Column(name = "transaction_datetime", nullable = false)
+    private LocalDateTime transactionDatetime;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_name", nullable = false)
+    private String accountName;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "category_name", nullable = false)
+    private String categoryName;
+
+    @Column(name = "created_on")
+    private LocalDateTime createdOn;
+
+    @Column(name = "updated_on")
+    private LocalDateTime updatedOn;
+}
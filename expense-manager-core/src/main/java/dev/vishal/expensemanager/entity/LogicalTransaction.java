@@ -1,8 +1,9 @@
 package dev.vishal.expensemanager.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
-import org.hibernate.annotations.UuidGenerator;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -10,10 +11,10 @@ import java.util.UUID;
 @Data
 @Entity
 @Table(name = "logical_transaction")
-public class LogicalTransaction {
+public class LogicalTransaction implements Persistable<UUID> {
 
+    // Assigned by the service (TimeBasedUuid) so both rows of a write can reference each other up front
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
     @Column(columnDefinition = "uuid")
     private UUID id;
 
@@ -32,6 +33,11 @@ public class LogicalTransaction {
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted;
 
+    // Lets save() persist directly instead of merging, an assigned id would otherwise cost a SELECT
+    @Transient
+    @JsonIgnore
+    private boolean newEntity = true;
+
     @PrePersist
     protected void onCreate() {
         createdOn = LocalDateTime.now();
@@ -43,4 +49,16 @@ public class LogicalTransaction {
     protected void onUpdate() {
         updatedOn = LocalDateTime.now();
     }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
 }
@@ -1,8 +1,9 @@
 package dev.vishal.expensemanager.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
-import org.hibernate.annotations.UuidGenerator;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,10 +12,10 @@ import java.util.UUID;
 @Data
 @Entity
 @Table(name = "transactions")
-public class Transactions {
+public class Transactions implements Persistable<UUID> {
 
+    // Assigned by the service (TimeBasedUuid) so both rows of a write can reference each other up front
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.TIME)
     @Column(columnDefinition = "uuid")
     private UUID id;
 
@@ -57,6 +58,11 @@ public class Transactions {
     @Transient
     private transient String categoryName;
 
+    // Lets save() persist directly instead of merging, an assigned id would otherwise cost a SELECT
+    @Transient
+    @JsonIgnore
+    private boolean newEntity = true;
+
     @PrePersist
     protected void onCreate() {
         createdOn = LocalDateTime.now();
@@ -68,4 +74,16 @@ public class Transactions {
     protected void onUpdate() {
         updatedOn = LocalDateTime.now();
     }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
 }
@@ -0,0 +1,103 @@
+package dev.vishal.expensemanager.helper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CSV records (RFC 4180 quoting, "" inside quotes is a literal quote) from a reader. A quoted field
+ * may span several lines, its line breaks are returned as '\n'. Unquoted fields are stripped, quoted
+ * fields keep their content as is and whitespace around the quotes is ignored.
+ */
+public class CsvRecordReader {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private long recordLineNumber;
+
+    public CsvRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null at the end of the input.
+     */
+    public List<String> next() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    // Whitespace before the opening quote is not part of the field
+                    if (!wasQuoted && field.toString().isBlank()) {
+                        field.setLength(0);
+                    }
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (c == ',') {
+                    fields.add(value(field, wasQuoted));
+                    field.setLength(0);
+                    wasQuoted = false;
+                } else if (!wasQuoted || !Character.isWhitespace(c)) {
+                    field.append(c);
+                }
+            }
+
+            if (!quoted) {
+                break;
+            }
+
+            // The quoted field continues on the next line, an unterminated quote ends at the end of the input
+            line = readLine();
+            if (line == null) {
+                break;
+            }
+            field.append('\n');
+        }
+
+        fields.add(value(field, wasQuoted));
+        return fields;
+    }
+
+    /**
+     * 1-based line number on which the record last returned by {@link #next()} starts.
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    private static String value(StringBuilder field, boolean wasQuoted) {
+        return wasQuoted ? field.toString() : field.toString().strip();
+    }
+}
@@ -0,0 +1,25 @@
+package dev.vishal.expensemanager.helper;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generates time-ordered (version 7) UUIDs, so ids can be assigned before insert
+ * while keeping B-tree inserts close to the right-most page.
+ */
+public class TimeBasedUuid {
+
+    private static final SecureRandom random = new SecureRandom();
+
+    public static UUID generate() {
+        long millis = System.currentTimeMillis();
+
+        // 48 bit unix millis | version 7 | 12 random bits
+        long mostSigBits = (millis << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+
+        // variant 10 | 62 random bits
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,43 @@
+package dev.vishal.expensemanager.helper;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor over (transactionDatetime, transactions.id).
+ * Clients must treat the encoded value as a token and send it back unchanged.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime transactionDatetime;
+    private final UUID transactionId;
+
+    public String encode() {
+        String raw = transactionDatetime + SEPARATOR + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(SEPARATOR);
+
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    UUID.fromString(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
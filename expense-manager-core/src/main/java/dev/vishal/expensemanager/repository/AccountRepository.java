@@ -1,10 +1,17 @@
 package dev.vishal.expensemanager.repository;
 
+import dev.vishal.expensemanager.dto.AccountBalanceMismatch;
 import dev.vishal.expensemanager.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -16,4 +23,48 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     List<Account> findByUserIdAndTypeAndIsDeletedFalseOrderByName(UUID userId, String type);
 
     List<Account> findAllByUserIdAndIsDeletedFalseOrderByName(UUID userId);
+
+    List<Account> findByUserIdAndIdInAndIsDeletedFalse(UUID userId, Collection<Long> ids);
+
+    // Native FOR UPDATE, conflicts with the key share locks taken while copying names to the read model
+    @Query(value = "SELECT * FROM account WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT a.id FROM Account a WHERE a.userId = :userId AND a.isDeleted = false")
+    List<Long> findIdsByUserIdAndIsDeletedFalse(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "UPDATE account SET is_deleted = true, updated_on = now() WHERE user_id = :userId AND is_deleted = false",
+            nativeQuery = true)
+    int softDeleteAllByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "UPDATE account SET balance = balance + :delta WHERE id = :id", nativeQuery = true)
+    int addToBalance(@Param("id") Long id, @Param("delta") BigDecimal delta);
+
+    @Query(value = """
+            SELECT a.id AS "accountId", a.balance AS "balance", COALESCE(l.total, 0) AS "expected"
+            FROM account a
+            LEFT JOIN (
+                SELECT t.account_id, SUM(t.amount) AS total
+                FROM logical_transaction lt
+                JOIN transactions t ON t.id = lt.transaction_id
+                WHERE lt.is_deleted = false AND t.is_deleted = false
+                GROUP BY t.account_id
+            ) l ON l.account_id = a.id
+            WHERE a.balance <> COALESCE(l.total, 0)
+            """, nativeQuery = true)
+    List<AccountBalanceMismatch> findBalanceMismatches();
+
+    @Modifying
+    @Query(value = """
+            UPDATE account SET balance = (
+                SELECT COALESCE(SUM(t.amount), 0)
+                FROM logical_transaction lt
+                JOIN transactions t ON t.id = lt.transaction_id
+                WHERE lt.is_deleted = false AND t.is_deleted = false AND t.account_id = :id
+            )
+            WHERE id = :id
+            """, nativeQuery = true)
+    int recalculateBalance(@Param("id") Long id);
 }
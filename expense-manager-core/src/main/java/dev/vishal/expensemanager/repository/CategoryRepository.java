@@ -2,9 +2,13 @@ package dev.vishal.expensemanager.repository;
 
 import dev.vishal.expensemanager.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -19,4 +23,23 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findByParentCategoryIdAndUserIdAndIsDeletedFalseOrderByName(Long parentCategoryId, UUID userId);
 
     List<Category> findByUserIdAndIsDeletedFalseOrderByName(UUID userId);
+
+    // Native FOR UPDATE, conflicts with the key share locks taken while copying names to the read model
+    @Query(value = "SELECT * FROM category WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Category> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT c.id FROM Category c WHERE c.userId = :userId AND c.isDeleted = false")
+    List<Long> findIdsByUserIdAndIsDeletedFalse(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = """
+            UPDATE category SET is_deleted = true, updated_on = now()
+            WHERE user_id = :userId AND is_deleted = false AND (id = :id OR parent_category_id = :id)
+            """, nativeQuery = true)
+    int softDeleteWithChildren(@Param("id") Long id, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "UPDATE category SET is_deleted = true, updated_on = now() WHERE user_id = :userId AND is_deleted = false",
+            nativeQuery = true)
+    int softDeleteAllByUserId(@Param("userId") UUID userId);
 }
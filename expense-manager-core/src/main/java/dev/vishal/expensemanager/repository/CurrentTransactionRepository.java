@@ -0,0 +1,43 @@
+package dev.vishal.expensemanager.repository;
+
+import dev.vishal.expensemanager.entity.CurrentTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface CurrentTransactionRepository extends JpaRepository<CurrentTransaction, UUID> {
+
+    @Modifying
+    @Query(value = """
+            UPDATE current_transaction SET account_name = :name
+            WHERE account_id = :accountId AND account_name <> :name
+            """, nativeQuery = true)
+    int renameAccount(@Param("accountId") Long accountId, @Param("name") String name);
+
+    @Modifying
+    @Query(value = """
+            UPDATE current_transaction SET category_name = :name
+            WHERE category_id = :categoryId AND category_name <> :name
+            """, nativeQuery = true)
+    int renameCategory(@Param("categoryId") Long categoryId, @Param("name") String name);
+
+    @Modifying
+    @Query(value = "DELETE FROM current_transaction WHERE logical_transaction_id = :logicalTransactionId",
+            nativeQuery = true)
+    int deleteByLogicalTransactionId(@Param("logicalTransactionId") UUID logicalTransactionId);
+
+    @Modifying
+    @Query(value = "DELETE FROM current_transaction WHERE logical_transaction_id IN (:logicalTransactionIds)",
+            nativeQuery = true)
+    int deleteByLogicalTransactionIds(@Param("logicalTransactionIds") Collection<UUID> logicalTransactionIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM current_transaction WHERE user_id = :userId", nativeQuery = true)
+    int deleteAllByUserId(@Param("userId") UUID userId);
+}
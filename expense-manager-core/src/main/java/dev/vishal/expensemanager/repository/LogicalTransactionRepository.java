@@ -1,11 +1,36 @@
 package dev.vishal.expensemanager.repository;
 
 import dev.vishal.expensemanager.entity.LogicalTransaction;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface LogicalTransactionRepository extends JpaRepository<LogicalTransaction, UUID> {
+
+    // Row lock for read-modify-write, a concurrent writer of the same transaction waits and then sees the result
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM LogicalTransaction t WHERE t.id = :id")
+    Optional<LogicalTransaction> findByIdForUpdate(@Param("id") UUID id);
+
+    // Locked in id order, concurrent batches touching the same transactions cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM LogicalTransaction t WHERE t.id IN :ids ORDER BY t.id")
+    List<LogicalTransaction> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = """
+            UPDATE logical_transaction SET is_deleted = true, updated_on = now()
+            WHERE user_id = :userId AND is_deleted = false
+            """, nativeQuery = true)
+    int softDeleteAllByUserId(@Param("userId") UUID userId);
 }
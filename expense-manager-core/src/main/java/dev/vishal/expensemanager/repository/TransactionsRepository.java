@@ -2,7 +2,11 @@ package dev.vishal.expensemanager.repository;
 
 import dev.vishal.expensemanager.entity.Transactions;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -10,4 +14,37 @@ import java.util.UUID;
 @Repository
 public interface TransactionsRepository extends JpaRepository<Transactions, UUID> {
     List<Transactions> findByIsDeletedFalseAndNoteContainingIgnoreCase(String note);
+
+    /**
+     * Moves up to batchSize versions no longer referenced by a logical transaction into transactions_history,
+     * in its own DB transaction. Returns the number of rows moved.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH superseded AS (
+                SELECT t.id, t.transaction_datetime FROM transactions t
+                WHERE NOT EXISTS (SELECT 1 FROM logical_transaction lt WHERE lt.transaction_id = t.id)
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM transactions t USING superseded s
+                WHERE t.id = s.id AND t.transaction_datetime = s.transaction_datetime
+                RETURNING t.*
+            )
+            INSERT INTO transactions_history (id, logical_transaction_id, version_number, amount, note, transaction_type,
+                    account_id, category_id, transaction_datetime, created_on, updated_on, is_deleted)
+            SELECT id, logical_transaction_id, version_number, amount, note, transaction_type,
+                    account_id, category_id, transaction_datetime, created_on, updated_on, is_deleted
+            FROM moved
+            """, nativeQuery = true)
+    int archiveSupersededVersions(@Param("batchSize") int batchSize);
+
+    /**
+     * Creates missing month partitions of transactions or transactions_history, see ENSURE_MONTHLY_PARTITIONS
+     * in the V7 and V11 migrations. Returns the number of partitions created.
+     */
+    @Transactional
+    @Query(value = "SELECT ensure_monthly_partitions(:parentTable, :monthsAhead)", nativeQuery = true)
+    int ensureMonthlyPartitions(@Param("parentTable") String parentTable, @Param("monthsAhead") int monthsAhead);
 }
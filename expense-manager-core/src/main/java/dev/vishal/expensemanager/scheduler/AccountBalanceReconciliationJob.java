@@ -0,0 +1,49 @@
+package dev.vishal.expensemanager.scheduler;
+
+import dev.vishal.expensemanager.dto.AccountBalanceMismatch;
+import dev.vishal.expensemanager.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Verifies the stored account balances against the transaction ledger and repairs any drift.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "expense.manager.balance.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class AccountBalanceReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountBalanceReconciliationJob.class);
+
+    private final AccountRepository accountRepository;
+
+    @Scheduled(cron = "${expense.manager.balance.reconciliation.cron:0 0 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        List<AccountBalanceMismatch> mismatches = accountRepository.findBalanceMismatches();
+
+        if (mismatches.isEmpty()) {
+            log.info("Account balance reconciliation | all balances match ledger");
+            return;
+        }
+
+        mismatches.forEach(mismatch -> {
+            log.warn(
+                    "Account balance reconciliation | accountId={} | stored={} | ledger={}",
+                    mismatch.getAccountId(),
+                    mismatch.getBalance(),
+                    mismatch.getExpected()
+            );
+            accountRepository.recalculateBalance(mismatch.getAccountId());
+        });
+
+        log.warn("Account balance reconciliation | repaired {} account(s)", mismatches.size());
+    }
+}
@@ -0,0 +1,43 @@
+package dev.vishal.expensemanager.scheduler;
+
+import dev.vishal.expensemanager.repository.TransactionsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves superseded transaction versions out of the hot transactions table into transactions_history.
+ * Each batch commits on its own, so a run never holds locks on more than one batch of rows.
+ */
+@Component
+@ConditionalOnProperty(name = "expense.manager.history.compaction.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionHistoryCompactionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionHistoryCompactionJob.class);
+
+    private final TransactionsRepository transactionsRepository;
+    private final int batchSize;
+
+    public TransactionHistoryCompactionJob(
+            TransactionsRepository transactionsRepository,
+            @Value("${expense.manager.history.compaction.batch-size:5000}") int batchSize) {
+        this.transactionsRepository = transactionsRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${expense.manager.history.compaction.cron:0 30 3 * * *}")
+    public void compact() {
+        long archived = 0;
+        int moved;
+
+        do {
+            moved = transactionsRepository.archiveSupersededVersions(batchSize);
+            archived += moved;
+        } while (moved == batchSize);
+
+        log.info("Transaction history compaction | archived {} superseded version(s)", archived);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.vishal.expensemanager.scheduler;
+
+import dev.vishal.expensemanager.repository.TransactionsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps month partitions of transactions and transactions_history created ahead of time, and moves rows
+ * that landed in a default partition (e.g. imported history) into their own month partition.
+ */
+@Component
+@ConditionalOnProperty(name = "expense.manager.partitions.maintenance.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionPartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionMaintenanceJob.class);
+
+    private static final List<String> PARTITIONED_TABLES = List.of("transactions", "transactions_history");
+
+    private final TransactionsRepository transactionsRepository;
+    private final int monthsAhead;
+
+    public TransactionPartitionMaintenanceJob(
+            TransactionsRepository transactionsRepository,
+            @Value("${expense.manager.partitions.maintenance.months-ahead:3}") int monthsAhead) {
+        this.transactionsRepository = transactionsRepository;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Startup run, a failure (e.g. lock timeout while another instance holds the tables) must not take the
+     * application down, the default partitions keep accepting rows until the next scheduled run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePartitionsOnStartup() {
+        try {
+            ensurePartitions();
+        } catch (RuntimeException e) {
+            log.error("Partition maintenance | startup run failed, retrying on schedule", e);
+        }
+    }
+
+    @Scheduled(cron = "${expense.manager.partitions.maintenance.cron:0 0 2 * * *}")
+    public void ensurePartitions() {
+        PARTITIONED_TABLES.forEach(table -> {
+            int created = transactionsRepository.ensureMonthlyPartitions(table, monthsAhead);
+            log.info("Partition maintenance | table={} | created {} partition(s)", table, created);
+        });
+    }
+}
@@ -15,6 +15,8 @@ public interface AccountService {
 
     Account getAccount(Long id, UUID userId) throws BadRequestException;
 
+    List<Account> getAccountsByIds(List<Long> ids, UUID userId);
+
     List<Account> getAccountByType(UUID userId, String type) throws BadRequestException;
 
     List<Account> getAllAccounts(UUID userId);
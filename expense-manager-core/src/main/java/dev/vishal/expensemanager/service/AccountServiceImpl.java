@@ -1,22 +1,23 @@
 package dev.vishal.expensemanager.service;
 
 import dev.common.exceptionutils.exceptions.BadRequestException;
-import dev.vishal.expensemanager.dao.TransactionsDao;
+import dev.vishal.expensemanager.cache.ReferenceCache;
 import dev.vishal.expensemanager.dto.AccountDto;
-import dev.vishal.expensemanager.dto.TransactionDto;
-import dev.vishal.expensemanager.dto.TransactionResponseDto;
 import dev.vishal.expensemanager.entity.Account;
 import dev.vishal.expensemanager.repository.AccountRepository;
+import dev.vishal.expensemanager.repository.CurrentTransactionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.math.BigDecimal;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,7 +25,8 @@ import java.util.stream.Collectors;
 public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
-    private final TransactionsDao transactionsDao;
+    private final CurrentTransactionRepository currentTransactionRepository;
+    private final ReferenceCache referenceCache;
 
     @Override
     public Account createAccount(AccountDto dto) throws BadRequestException {
@@ -41,42 +43,39 @@ public class AccountServiceImpl implements AccountService {
         }
 
         Account account = new Account();
-        dto.setBalance(BigDecimal.ZERO);    // Zero Balance at creation
         copyDtoToEntity(dto, account);
-        return accountRepository.save(account);
+        account = accountRepository.save(account);
+        account.setBalance(BigDecimal.ZERO);    // Zero Balance at creation
+        referenceCache.evictAccount(dto.getUserId(), account.getId());
+        return account;
     }
 
     @Override
     public Account getAccount(Long id, UUID userId) throws BadRequestException {
-        Account account = accountRepository.findById(id)
+        return accountRepository.findById(id)
                 .filter(a -> a.getUserId().equals(userId))
                 .filter(a -> !a.getIsDeleted())
                 .orElseThrow(() -> new BadRequestException("Account not found"));
+    }
 
-        // Get All txn against account and calculate balance
-        setCalculatedBalance(userId, List.of(account));
+    @Override
+    public List<Account> getAccountsByIds(List<Long> ids, UUID userId) {
+        // One IN query, ids not owned by the user or deleted are left out
+        Map<Long, Account> accountsById = accountRepository
+                .findByUserIdAndIdInAndIsDeletedFalse(userId, new HashSet<>(ids)).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
 
-        return account;
+        return ids.stream().distinct().map(accountsById::get).filter(Objects::nonNull).toList();
     }
 
     @Override
     public List<Account> getAccountByType(UUID userId, String type) throws BadRequestException {
-        List<Account> accounts = accountRepository.findByUserIdAndTypeAndIsDeletedFalseOrderByName(userId, type);
-
-        // Get All txn against account and calculate balance
-        setCalculatedBalance(userId, accounts);
-
-        return accounts;
+        return accountRepository.findByUserIdAndTypeAndIsDeletedFalseOrderByName(userId, type);
     }
 
     @Override
     public List<Account> getAllAccounts(UUID userId) {
-        List<Account> accounts = accountRepository.findAllByUserIdAndIsDeletedFalseOrderByName(userId);
-
-        // Get All txn against account and calculate balance
-        setCalculatedBalance(userId, accounts);
-
-        return accounts;
+        return accountRepository.findAllByUserIdAndIsDeletedFalseOrderByName(userId);
     }
 
     @Override
@@ -93,12 +92,13 @@ public class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new BadRequestException("Account not found"));
 
         accountRepository.save(account);
+        referenceCache.evictAccount(userId, id);
     }
 
     @Override
     @Transactional
     public Account updateAccount(AccountDto dto) throws BadRequestException {
-        Account existing = accountRepository.findById(dto.getId())
+        Account existing = accountRepository.findByIdForUpdate(dto.getId())
                 .filter(Account -> Account.getUserId().equals(dto.getUserId()))
                 .filter(Account -> !Account.getIsDeleted())
                 .orElseThrow(() -> new BadRequestException("Account not found"));
@@ -115,6 +115,8 @@ public class AccountServiceImpl implements AccountService {
             throw new BadRequestException("Account already exists!");
         }
         copyDtoToEntity(dto, existing);
+        currentTransactionRepository.renameAccount(existing.getId(), existing.getName());
+        referenceCache.evictAccount(dto.getUserId(), dto.getId());
         return accountRepository.save(existing);
     }
 
@@ -126,33 +128,4 @@ public class AccountServiceImpl implements AccountService {
         entity.setType(dto.getType());
     }
 
-    private void setCalculatedBalance(UUID userId, List<Account> accounts) {
-        List<Long> accountIds = accounts.stream()
-                .map(Account::getId)
-                .toList();
-
-        TransactionDto transactionDto = TransactionDto.builder()
-                .accounts(accountIds)
-                .orderByAsc(Boolean.TRUE)
-                .userId(userId)
-                .build();
-
-        List<TransactionResponseDto> transactions = transactionsDao.findTransactions(transactionDto);
-
-        Map<Long, List<TransactionResponseDto>> txnAccountMap =
-                transactions.stream()
-                        .collect(Collectors.groupingBy(TransactionResponseDto::getAccountId));
-
-        accounts.forEach(account -> {
-
-            BigDecimal balance = txnAccountMap
-                    .getOrDefault(account.getId(), Collections.emptyList())
-                    .stream()
-                    .map(TransactionResponseDto::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            account.setBalance(balance);
-        });
-    }
-
 }
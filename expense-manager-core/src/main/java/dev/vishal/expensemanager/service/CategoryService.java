@@ -15,6 +15,8 @@ public interface CategoryService {
 
     Category getCategory(Long id, UUID userId) throws BadRequestException;
 
+    List<Category> getCategoriesByIds(List<Long> ids, UUID userId);
+
     List<Category> getCategoryByParent(Long id, UUID userId) throws BadRequestException;
 
     List<Category> getAllCategories(UUID userId);
@@ -1,9 +1,14 @@
 package dev.vishal.expensemanager.service;
 
 import dev.common.exceptionutils.exceptions.BadRequestException;
+import dev.vishal.expensemanager.cache.CategoryNode;
+import dev.vishal.expensemanager.cache.CategoryTree;
+import dev.vishal.expensemanager.cache.CategoryTreeCache;
+import dev.vishal.expensemanager.cache.ReferenceCache;
 import dev.vishal.expensemanager.dto.CategoryDto;
 import dev.vishal.expensemanager.entity.Category;
 import dev.vishal.expensemanager.repository.CategoryRepository;
+import dev.vishal.expensemanager.repository.CurrentTransactionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +23,9 @@ import java.util.UUID;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CurrentTransactionRepository currentTransactionRepository;
+    private final ReferenceCache referenceCache;
+    private final CategoryTreeCache categoryTreeCache;
 
     @Override
     public Category createCategory(CategoryDto dto) throws BadRequestException {
@@ -25,12 +33,13 @@ public class CategoryServiceImpl implements CategoryService {
         Long parentId = dto.getParentCategoryId();
 
         if (parentId != null) {
-            Category parent = categoryRepository.findById(parentId)
-                    .filter(c -> c.getUserId().equals(dto.getUserId()))
-                    .filter(c -> !c.getIsDeleted())
-                    .orElseThrow(() -> new BadRequestException("Parent category not found or deleted"));
+            CategoryNode parent = categoryTreeCache.getTree(dto.getUserId()).getCategory(parentId);
 
-            if (parent.getParentCategoryId() != null) {
+            if (parent == null) {
+                throw new BadRequestException("Parent category not found or deleted");
+            }
+
+            if (parent.parentId() != null) {
                 throw new BadRequestException("Sub-sub category not allowed");
             }
         }
@@ -48,46 +57,55 @@ public class CategoryServiceImpl implements CategoryService {
 
         Category category = new Category();
         copyDtoToEntity(dto, category);
-        return categoryRepository.save(category);
+        category = categoryRepository.save(category);
+        referenceCache.evictCategory(dto.getUserId(), category.getId());
+        categoryTreeCache.evict(dto.getUserId());
+        return category;
     }
 
     @Override
     public Category getCategory(Long id, UUID userId) throws BadRequestException {
-        return categoryRepository.findById(id)
-                .filter(c -> c.getUserId().equals(userId))
-                .filter(c -> !c.getIsDeleted())
-                .orElseThrow(() -> new BadRequestException("Category not found"));
+        CategoryNode category = categoryTreeCache.getTree(userId).getCategory(id);
+
+        if (Objects.isNull(category)) {
+            throw new BadRequestException("Category not found");
+        }
+
+        return toEntity(category, userId);
+    }
+
+    @Override
+    public List<Category> getCategoriesByIds(List<Long> ids, UUID userId) {
+        // The tree only holds the user's non-deleted categories, other ids are left out
+        CategoryTree tree = categoryTreeCache.getTree(userId);
+        return ids.stream().distinct().map(tree::getCategory).filter(Objects::nonNull)
+                .map(category -> toEntity(category, userId)).toList();
     }
 
     @Override
     public List<Category> getCategoryByParent(Long id, UUID userId) throws BadRequestException {
-        return categoryRepository.findByParentCategoryIdAndUserIdAndIsDeletedFalseOrderByName(id, userId);
+        return toEntities(categoryTreeCache.getTree(userId).getChildren(id), userId);
     }
 
     @Override
     public List<Category> getAllCategories(UUID userId) {
-        return categoryRepository.findByUserIdAndIsDeletedFalseOrderByName(userId);
+        return toEntities(categoryTreeCache.getTree(userId).getCategories(), userId);
     }
 
     @Override
     @Transactional
     public void deleteCategory(Long id, UUID userId) throws BadRequestException {
-        Category category = categoryRepository.findByIdAndUserIdAndIsDeletedFalse(id, userId);
+        // Read before the write, children are needed for cache eviction
+        List<CategoryNode> children = categoryTreeCache.getTree(userId).getChildren(id);
 
-        if (Objects.isNull(category)) {
+        // Category and all its child categories in one statement
+        if (categoryRepository.softDeleteWithChildren(id, userId) == 0) {
             throw new BadRequestException("Category not found");
         }
 
-        category.setIsDeleted(true);
-
-        // All child Categories
-        List<Category> categories =
-                categoryRepository.findByParentCategoryIdAndUserIdAndIsDeletedFalseOrderByName(id, userId);
-        categories.forEach(c -> c.setIsDeleted(true));
-
-        categories.add(category);
-
-        categoryRepository.saveAll(categories);
+        referenceCache.evictCategory(userId, id);
+        children.forEach(c -> referenceCache.evictCategory(userId, c.id()));
+        categoryTreeCache.evict(userId);
     }
 
     @Override
@@ -95,12 +113,20 @@ public class CategoryServiceImpl implements CategoryService {
     public Category updateCategory(CategoryDto dto) throws BadRequestException {
 
         if (Objects.nonNull(dto.getParentCategoryId())) {
-            categoryRepository.findById(dto.getParentCategoryId())
-                    .filter(category -> category.getUserId().equals(dto.getUserId()))
-                    .orElseThrow(() -> new BadRequestException("Parent Category not found"));
+            CategoryTree tree = categoryTreeCache.getTree(dto.getUserId());
+            CategoryNode parent = tree.getCategory(dto.getParentCategoryId());
+
+            if (parent == null) {
+                throw new BadRequestException("Parent Category not found");
+            }
+
+            // Only two levels, the new parent must be top level and the category must not have children
+            if (parent.parentId() != null || !tree.getChildren(dto.getId()).isEmpty()) {
+                throw new BadRequestException("Sub-sub category not allowed");
+            }
         }
 
-        Category existing = categoryRepository.findById(dto.getId())
+        Category existing = categoryRepository.findByIdForUpdate(dto.getId())
                 .filter(category -> category.getUserId().equals(dto.getUserId()))
                 .filter(category -> !category.getIsDeleted())
                 .orElseThrow(() -> new RuntimeException("Category not found"));
@@ -118,11 +144,31 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         copyDtoToEntity(dto, existing);
+        currentTransactionRepository.renameCategory(existing.getId(), existing.getName());
+        referenceCache.evictCategory(dto.getUserId(), dto.getId());
+        categoryTreeCache.evict(dto.getUserId());
         return categoryRepository.save(existing);
     }
 
     // ------------------ Helper methods ------------------
 
+    private List<Category> toEntities(List<CategoryNode> categories, UUID userId) {
+        return categories.stream().map(category -> toEntity(category, userId)).toList();
+    }
+
+    // A detached copy per read, same response shape as create and update, the cached node stays untouched
+    private Category toEntity(CategoryNode category, UUID userId) {
+        Category entity = new Category();
+        entity.setId(category.id());
+        entity.setUserId(userId);
+        entity.setName(category.name());
+        entity.setParentCategoryId(category.parentId());
+        entity.setCreatedOn(category.createdOn());
+        entity.setUpdatedOn(category.updatedOn());
+        entity.setIsDeleted(false);
+        return entity;
+    }
+
     private void copyDtoToEntity(CategoryDto dto, Category entity) {
         entity.setUserId(dto.getUserId());
         entity.setName(dto.getName());
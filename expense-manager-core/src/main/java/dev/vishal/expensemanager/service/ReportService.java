@@ -0,0 +1,11 @@
+package dev.vishal.expensemanager.service;
+
+import dev.vishal.expensemanager.dto.MonthlyReportDto;
+import dev.vishal.expensemanager.dto.ReportDto;
+
+import java.util.List;
+
+public interface ReportService {
+
+    List<MonthlyReportDto> getMonthlyReport(ReportDto dto);
+}
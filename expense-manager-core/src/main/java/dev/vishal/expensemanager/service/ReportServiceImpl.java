@@ -0,0 +1,66 @@
+package dev.vishal.expensemanager.service;
+
+import dev.vishal.expensemanager.dao.MonthlyRollupDao;
+import dev.vishal.expensemanager.dto.MonthlyReportDto;
+import dev.vishal.expensemanager.dto.ReportDto;
+import dev.vishal.expensemanager.dto.ReportGroup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Month-over-month reports served from the monthly rollup tables, the cost depends on the
+ * number of months and groups only, not on the number of transactions.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+
+    private final MonthlyRollupDao monthlyRollupDao;
+
+    @Override
+    public List<MonthlyReportDto> getMonthlyReport(ReportDto dto) {
+        ReportGroup group = StringUtils.hasText(dto.getGroupBy())
+                ? ReportGroup.from(dto.getGroupBy())
+                : null;
+
+        // One extra month so the first month of the range also gets a change
+        List<MonthlyReportDto> rows = monthlyRollupDao.findMonthlyTotals(
+                dto.getUserId(), dto.getFromMonth().minusMonths(1), dto.getToMonth(), group);
+
+        Map<Long, BigDecimal> previousNet = new HashMap<>();
+        Map<Long, BigDecimal> currentNet = new HashMap<>();
+        YearMonth currentMonth = null;
+        List<MonthlyReportDto> report = new ArrayList<>();
+
+        // Rows are ordered by month, each month is compared with the one right before it
+        for (MonthlyReportDto row : rows) {
+            if (!row.getMonth().equals(currentMonth)) {
+                boolean consecutive = currentMonth != null && currentMonth.plusMonths(1).equals(row.getMonth());
+                previousNet = consecutive ? currentNet : new HashMap<>();
+                currentNet = new HashMap<>();
+                currentMonth = row.getMonth();
+            }
+
+            Long groupId = Objects.nonNull(row.getAccountId()) ? row.getAccountId() : row.getCategoryId();
+            currentNet.put(groupId, row.getNet());
+
+            if (row.getMonth().isBefore(dto.getFromMonth())) {
+                continue;
+            }
+
+            row.setNetChange(row.getNet().subtract(previousNet.getOrDefault(groupId, BigDecimal.ZERO)));
+            report.add(row);
+        }
+
+        return report;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.vishal.expensemanager.service;
+
+import dev.vishal.expensemanager.dto.ExportFormat;
+import dev.vishal.expensemanager.dto.TransactionDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TransactionExportService {
+
+    void exportTransactions(TransactionDto dto, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,90 @@
+package dev.vishal.expensemanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vishal.expensemanager.dao.TransactionsDao;
+import dev.vishal.expensemanager.dto.ExportFormat;
+import dev.vishal.expensemanager.dto.TransactionDto;
+import dev.vishal.expensemanager.dto.TransactionResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes the transactions matching the {@code getAllTransactions} filters straight to an output stream.
+ * <p>
+ * Rows are read through a DB cursor and written one at a time, so memory use does not grow with the
+ * size of the history. The CSV header is a superset of the import header, an export can be imported back.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    private static final String CSV_HEADER = "id,date,amount,type,account,category,note";
+
+    private final TransactionsDao transactionsDao;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTransactions(TransactionDto dto, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TransactionResponseDto> transactions = transactionsDao.streamTransactions(dto)) {
+            Iterator<TransactionResponseDto> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                TransactionResponseDto txn = iterator.next();
+                txn.setAmount(txn.getAmount().abs());
+
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, txn);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(txn));
+                    writer.write('\n');
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private void writeCsvRow(Writer writer, TransactionResponseDto txn) throws IOException {
+        writer.write(String.join(",",
+                String.valueOf(txn.getId()),
+                String.valueOf(txn.getTransactionDatetime()),
+                txn.getAmount().toPlainString(),
+                csvField(txn.getTransactionType()),
+                csvField(txn.getAccountName()),
+                csvField(txn.getCategoryName()),
+                csvField(txn.getNote())));
+        writer.write('\n');
+    }
+
+    private String csvField(String value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        // Quoted when the importer would otherwise split, strip or misread it
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0
+                && value.equals(value.strip())) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
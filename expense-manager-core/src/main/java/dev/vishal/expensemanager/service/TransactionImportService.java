@@ -0,0 +1,11 @@
+package dev.vishal.expensemanager.service;
+
+import dev.vishal.expensemanager.dto.TransactionImportResultDto;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface TransactionImportService {
+
+    TransactionImportResultDto importCsv(UUID userId, InputStream csv);
+}
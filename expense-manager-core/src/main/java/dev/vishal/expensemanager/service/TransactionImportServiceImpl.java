@@ -0,0 +1,279 @@
+package dev.vishal.expensemanager.service;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+import dev.common.exceptionutils.exceptions.InternalServerException;
+import dev.vishal.expensemanager.cache.NoteSuggestionCache;
+import dev.vishal.expensemanager.dao.MonthlyRollupDao;
+import dev.vishal.expensemanager.dao.MonthlyRollupDeltas;
+import dev.vishal.expensemanager.dao.TransactionsDao;
+import dev.vishal.expensemanager.dto.TransactionImportResultDto;
+import dev.vishal.expensemanager.entity.Account;
+import dev.vishal.expensemanager.entity.Category;
+import dev.vishal.expensemanager.entity.Transactions;
+import dev.vishal.expensemanager.helper.CsvRecordReader;
+import dev.vishal.expensemanager.helper.TimeBasedUuid;
+import dev.vishal.expensemanager.repository.AccountRepository;
+import dev.vishal.expensemanager.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a CSV statement into transactions.
+ * <p>
+ * Expected header (any order, case-insensitive): {@code date,amount,type,account,category,note}.
+ * {@code date} is an ISO date or date-time, {@code type} is CREDIT or DEBIT (when empty the sign of
+ * {@code amount} decides), {@code account} and {@code category} are ids or names. Invalid rows are
+ * skipped and reported, valid rows are inserted in JDBC batches within one DB transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_AMOUNT_INTEGER_DIGITS = 10;    // NUMERIC(12, 2)
+
+    private final TransactionsDao transactionsDao;
+    private final MonthlyRollupDao monthlyRollupDao;
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final NoteSuggestionCache noteSuggestionCache;
+
+    @Override
+    @Transactional
+    public TransactionImportResultDto importCsv(UUID userId, InputStream csv) {
+
+        // Accounts and categories are resolved once per import from memory
+        ReferenceResolver accounts = new ReferenceResolver("Account",
+                accountRepository.findAllByUserIdAndIsDeletedFalseOrderByName(userId),
+                Account::getId, Account::getName);
+        ReferenceResolver categories = new ReferenceResolver("Category",
+                categoryRepository.findByUserIdAndIsDeletedFalseOrderByName(userId),
+                Category::getId, Category::getName);
+
+        TransactionImportResultDto result = new TransactionImportResultDto();
+        Map<Long, BigDecimal> balanceDeltas = new TreeMap<>();
+        MonthlyRollupDeltas rollupDeltas = new MonthlyRollupDeltas();
+        List<Transactions> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            CsvRecordReader records = new CsvRecordReader(reader);
+            List<String> headerFields = records.next();
+            if (headerFields == null) {
+                throw new BadRequestException("File is empty!");
+            }
+            Map<String, Integer> header = parseHeader(headerFields);
+
+            List<String> fields;
+            while ((fields = records.next()) != null) {
+                // Rows are reported by the line they start on, quoted notes may span lines
+                long row = records.getRecordLineNumber();
+                if (fields.size() == 1 && !StringUtils.hasText(fields.get(0))) {
+                    continue;
+                }
+                result.setTotalRows(result.getTotalRows() + 1);
+
+                try {
+                    Transactions transaction = toTransaction(fields, header, accounts, categories);
+                    batch.add(transaction);
+                    balanceDeltas.merge(transaction.getAccountId(), transaction.getAmount(), BigDecimal::add);
+                } catch (BadRequestException e) {
+                    result.setFailedRows(result.getFailedRows() + 1);
+                    if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                        result.getErrors().add(new TransactionImportResultDto.RowError(row, e.getMessage()));
+                    }
+                }
+
+                if (batch.size() == BATCH_SIZE) {
+                    result.setImportedRows(result.getImportedRows() + flush(userId, batch, rollupDeltas));
+                }
+            }
+        } catch (IOException e) {
+            throw new InternalServerException("Unable to read import file: " + e.getMessage());
+        }
+
+        result.setImportedRows(result.getImportedRows() + flush(userId, batch, rollupDeltas));
+
+        // One balance update per touched account instead of per row, in account id order, then the
+        // rollups, balances before rollups like the other transaction writes so they cannot deadlock
+        balanceDeltas.forEach(accountRepository::addToBalance);
+        monthlyRollupDao.applyDeltas(userId, rollupDeltas);
+
+        if (result.getImportedRows() > 0) {
+            noteSuggestionCache.evict(userId);
+        }
+
+        return result;
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private int flush(UUID userId, List<Transactions> batch, MonthlyRollupDeltas rollupDeltas) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        transactionsDao.insertTransactions(userId, batch);
+        // Rollup rows are only locked at the end, after the account balances
+        rollupDeltas.add(batch);
+        batch.clear();
+        return size;
+    }
+
+    private Map<String, Integer> parseHeader(List<String> columns) {
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            // strip a UTF-8 BOM written by spreadsheet exports
+            header.put(columns.get(i).replace("\uFEFF", "").strip().toLowerCase(), i);
+        }
+
+        for (String required : List.of("date", "amount", "account", "category", "note")) {
+            if (!header.containsKey(required)) {
+                throw new BadRequestException("Column " + required + " is mandatory!");
+            }
+        }
+
+        return header;
+    }
+
+    private Transactions toTransaction(
+            List<String> fields,
+            Map<String, Integer> header,
+            ReferenceResolver accounts,
+            ReferenceResolver categories) {
+
+        String note = field(fields, header, "note");
+        if (!StringUtils.hasText(note)) {
+            throw new BadRequestException("Note is mandatory!");
+        }
+
+        BigDecimal amount = parseAmount(field(fields, header, "amount"));
+        String transactionType = field(fields, header, "type");
+        if (!StringUtils.hasText(transactionType)) {
+            transactionType = amount.signum() < 0 ? "DEBIT" : "CREDIT";
+        }
+
+        Transactions transaction = new Transactions();
+        transaction.setId(TimeBasedUuid.generate());
+        transaction.setLogicalTransactionId(TimeBasedUuid.generate());
+        transaction.setVersionNumber(0L);
+        transaction.setAmount(applyTransactionTypeToAmount(transactionType.toUpperCase(), amount));
+        transaction.setTransactionType(transactionType.toUpperCase());
+        transaction.setNote(note);
+        transaction.setAccountId(accounts.resolve(field(fields, header, "account")));
+        transaction.setCategoryId(categories.resolve(field(fields, header, "category")));
+        transaction.setTransactionDatetime(parseDatetime(field(fields, header, "date")));
+        return transaction;
+    }
+
+    private String field(List<String> fields, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+
+    private BigDecimal parseAmount(String value) {
+        if (!StringUtils.hasText(value)) {
+            throw new BadRequestException("Amount is mandatory!");
+        }
+
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid amount: " + value);
+        }
+
+        if (amount.signum() == 0) {
+            throw new BadRequestException("Amount value 0 is not allowed!");
+        }
+
+        if (amount.precision() - amount.scale() > MAX_AMOUNT_INTEGER_DIGITS) {
+            throw new BadRequestException("Amount is too large: " + value);
+        }
+
+        return amount;
+    }
+
+    private LocalDateTime parseDatetime(String value) {
+        if (!StringUtils.hasText(value)) {
+            throw new BadRequestException("Transaction datetime is mandatory!");
+        }
+
+        try {
+            return value.length() <= 10
+                    ? LocalDate.parse(value).atStartOfDay()
+                    : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid date: " + value);
+        }
+    }
+
+    private BigDecimal applyTransactionTypeToAmount(String transactionType, BigDecimal amount) {
+        return switch (transactionType) {
+            case "CREDIT" -> amount.abs();
+            case "DEBIT" -> amount.abs().negate();
+            default -> throw new BadRequestException(transactionType + " is not allowed");
+        };
+    }
+
+    /**
+     * Resolves a CSV cell to an owned account / category id, either by id or by (unique) name.
+     */
+    private static final class ReferenceResolver {
+
+        private final String label;
+        private final Map<Long, Long> byId;
+        private final Map<String, List<Long>> byName;
+
+        private <T> ReferenceResolver(String label, List<T> items, Function<T, Long> id, Function<T, String> name) {
+            this.label = label;
+            this.byId = items.stream().collect(Collectors.toMap(id, id));
+            this.byName = items.stream().collect(Collectors.groupingBy(
+                    item -> name.apply(item).toLowerCase(),
+                    Collectors.mapping(id, Collectors.toList())
+            ));
+        }
+
+        private Long resolve(String value) {
+            if (!StringUtils.hasText(value)) {
+                throw new BadRequestException(label + " is mandatory!");
+            }
+
+            if (value.length() <= 18 && value.chars().allMatch(Character::isDigit)) {
+                Long resolved = byId.get(Long.valueOf(value));
+                if (resolved != null) {
+                    return resolved;
+                }
+            }
+
+            List<Long> matches = byName.getOrDefault(value.toLowerCase(), List.of());
+            if (matches.isEmpty()) {
+                throw new BadRequestException(label + " not found or deleted: " + value);
+            }
+            if (matches.size() > 1) {
+                throw new BadRequestException(label + " name is ambiguous, use the id: " + value);
+            }
+            return matches.get(0);
+        }
+    }
+}
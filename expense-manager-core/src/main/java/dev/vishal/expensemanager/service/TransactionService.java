@@ -1,7 +1,13 @@
 package dev.vishal.expensemanager.service;
 
+import dev.vishal.expensemanager.dto.BalanceSeriesDto;
+import dev.vishal.expensemanager.dto.TransactionBatchDto;
+import dev.vishal.expensemanager.dto.TransactionBatchResultDto;
 import dev.vishal.expensemanager.dto.TransactionDto;
+import dev.vishal.expensemanager.dto.TransactionPageDto;
 import dev.vishal.expensemanager.dto.TransactionResponseDto;
+import dev.vishal.expensemanager.dto.TransactionSummaryDto;
+import dev.vishal.expensemanager.dto.TransactionVersionDto;
 import dev.vishal.expensemanager.entity.Transactions;
 
 import java.util.List;
@@ -15,9 +21,21 @@ public interface TransactionService {
 
     Transactions getTransaction(UUID id, UUID userId);
 
+    List<TransactionResponseDto> getTransactionsByIds(List<UUID> ids, UUID userId);
+
+    List<TransactionVersionDto> getTransactionHistory(UUID id, UUID userId);
+
     List<TransactionResponseDto> getAllTransactions(TransactionDto dto);
 
+    TransactionPageDto getTransactionsPage(TransactionDto dto);
+
     List<String> getTransactionNotes(TransactionDto dto);
 
+    List<TransactionSummaryDto> getTransactionSummary(TransactionDto dto);
+
+    List<BalanceSeriesDto> getBalanceSeries(TransactionDto dto);
+
     void deleteTransaction(UUID id, UUID userId);
+
+    List<TransactionBatchResultDto> applyBatch(TransactionBatchDto dto);
 }
@@ -1,66 +1,102 @@
 package dev.vishal.expensemanager.service;
 
 import dev.common.exceptionutils.exceptions.BadRequestException;
+import dev.common.exceptionutils.exceptions.ConflictException;
+import dev.vishal.expensemanager.cache.NoteSuggestionCache;
+import dev.vishal.expensemanager.cache.ReferenceCache;
+import dev.vishal.expensemanager.dao.MonthlyRollupDao;
 import dev.vishal.expensemanager.dao.TransactionsDao;
+import dev.vishal.expensemanager.dto.BalanceSeriesDto;
+import dev.vishal.expensemanager.dto.BatchOperation;
+import dev.vishal.expensemanager.dto.OwnedReferencesDto;
+import dev.vishal.expensemanager.dto.TransactionBatchDto;
+import dev.vishal.expensemanager.dto.TransactionBatchResultDto;
 import dev.vishal.expensemanager.dto.TransactionDto;
+import dev.vishal.expensemanager.dto.TransactionPageDto;
+import dev.vishal.expensemanager.dto.TimeBucket;
 import dev.vishal.expensemanager.dto.TransactionResponseDto;
+import dev.vishal.expensemanager.dto.TransactionSummaryDto;
+import dev.vishal.expensemanager.dto.TransactionSummaryGroup;
+import dev.vishal.expensemanager.dto.TransactionVersionDto;
+import dev.vishal.expensemanager.entity.Account;
+import dev.vishal.expensemanager.entity.Category;
 import dev.vishal.expensemanager.entity.LogicalTransaction;
 import dev.vishal.expensemanager.entity.Transactions;
+import dev.vishal.expensemanager.helper.TimeBasedUuid;
+import dev.vishal.expensemanager.helper.TransactionCursor;
 import dev.vishal.expensemanager.repository.AccountRepository;
-import dev.vishal.expensemanager.repository.CategoryRepository;
+import dev.vishal.expensemanager.repository.CurrentTransactionRepository;
 import dev.vishal.expensemanager.repository.LogicalTransactionRepository;
 import dev.vishal.expensemanager.repository.TransactionsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final long DEFAULT_PAGE_SIZE = 50;
+    private static final long MAX_PAGE_SIZE = 500;
+    private static final long MAX_SERIES_BUCKETS = 3700;
+
     private final TransactionsRepository transactionsRepository;
     private final LogicalTransactionRepository logicalTransactionRepository;
+    private final CurrentTransactionRepository currentTransactionRepository;
     private final TransactionsDao transactionsDao;
+    private final MonthlyRollupDao monthlyRollupDao;
     private final AccountRepository accountRepository;
-    private final CategoryRepository categoryRepository;
+    private final NoteSuggestionCache noteSuggestionCache;
+    private final ReferenceCache referenceCache;
 
     @Override
     @Transactional
     public Transactions createTransaction(TransactionDto dto) {
 
-        accountRepository.findById(dto.getAccountId())
-                .filter(acc -> acc.getUserId().equals(dto.getUserId()))
-                .filter(acc -> !acc.getIsDeleted())
-                .orElseThrow(() -> new BadRequestException("Account not found or deleted"));
-
-        categoryRepository.findById(dto.getCategoryId())
-                .filter(cat -> cat.getUserId().equals(dto.getUserId()))
-                .filter(cat -> !cat.getIsDeleted())
-                .orElseThrow(() -> new BadRequestException("Category not found or deleted"));
+        validateOwnership(dto.getUserId(), dto.getAccountId(), dto.getCategoryId());
 
         // Gets +/- amount by txnType
         BigDecimal amount = applyTransactionTypeToAmount(dto.getTransactionType(), dto.getAmount());
         dto.setAmount(amount);
 
+        // Ids are assigned up front so both rows are inserted in one flush without a back-fill UPDATE
         Transactions transaction = new Transactions();
         copyDtoToEntity(dto, transaction);
+        transaction.setId(TimeBasedUuid.generate());
+        transaction.setLogicalTransactionId(TimeBasedUuid.generate());
         transaction.setVersionNumber(0L);
-        transaction = transactionsRepository.save(transaction);
 
         LogicalTransaction logicalTransaction = new LogicalTransaction();
+        logicalTransaction.setId(transaction.getLogicalTransactionId());
         logicalTransaction.setTransactionId(transaction.getId());
         logicalTransaction.setUserId(dto.getUserId());
 
-        logicalTransaction = logicalTransactionRepository.save(logicalTransaction);
+        transaction = transactionsRepository.save(transaction);
+        logicalTransactionRepository.save(logicalTransaction);
+        transactionsDao.refreshCurrentTransactions(List.of(logicalTransaction.getId()));
 
-        transaction.setLogicalTransactionId(logicalTransaction.getId());
-        transactionsRepository.save(transaction);
+        accountRepository.addToBalance(transaction.getAccountId(), transaction.getAmount());
+        monthlyRollupDao.addTransactions(dto.getUserId(), List.of(transaction));
+        noteSuggestionCache.onNoteChanged(dto.getUserId(), null, transaction.getNote());
 
         return transaction;
     }
@@ -77,7 +113,36 @@ public class TransactionServiceImpl implements TransactionService {
                 .orElseThrow(() -> new BadRequestException("Transaction not found"));
 
         transaction.setAmount(transaction.getAmount().abs());
-        return populateTransientFields(transaction);
+        return populateTransientFields(transaction, userId);
+    }
+
+    @Override
+    public List<TransactionResponseDto> getTransactionsByIds(List<UUID> ids, UUID userId) {
+        Map<UUID, TransactionResponseDto> transactionsById = transactionsDao
+                .findTransactionsByIds(userId, new HashSet<>(ids)).stream()
+                .collect(Collectors.toMap(TransactionResponseDto::getId, Function.identity()));
+
+        // Request order, ids not owned by the user or deleted are left out
+        List<TransactionResponseDto> transactions = ids.stream()
+                .distinct()
+                .map(transactionsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        transactions.forEach(txn -> txn.setAmount((txn.getAmount().abs())));
+        return transactions;
+    }
+
+    @Override
+    public List<TransactionVersionDto> getTransactionHistory(UUID id, UUID userId) {
+        logicalTransactionRepository.findById(id)
+                .filter(t -> t.getUserId().equals(userId))
+                .filter(t -> !t.getIsDeleted())
+                .orElseThrow(() -> new BadRequestException("Transaction not found"));
+
+        List<TransactionVersionDto> versions = transactionsDao.findTransactionVersions(id);
+        versions.forEach(version -> version.setAmount(version.getAmount().abs()));
+        return versions;
     }
 
     @Override
@@ -87,15 +152,75 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionResponseDtoList;
     }
 
+    @Override
+    public TransactionPageDto getTransactionsPage(TransactionDto dto) {
+        long pageSize = Objects.isNull(dto.getCount())
+                ? DEFAULT_PAGE_SIZE
+                : Math.min(dto.getCount(), MAX_PAGE_SIZE);
+
+        // Fetch one extra row to know whether a next page exists
+        dto.setCount(pageSize + 1);
+        List<TransactionResponseDto> transactions = transactionsDao.findTransactions(dto);
+
+        String nextCursor = null;
+        if (transactions.size() > pageSize) {
+            transactions = transactions.subList(0, (int) pageSize);
+            TransactionResponseDto last = transactions.get(transactions.size() - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDatetime(), last.getTransactionId()).encode();
+        }
+
+        transactions.forEach(txn -> txn.setAmount((txn.getAmount().abs())));
+        return new TransactionPageDto(transactions, nextCursor);
+    }
+
     @Override
     public List<String> getTransactionNotes(TransactionDto dto) {
-        return transactionsDao.findNotes(dto);
+        return noteSuggestionCache.suggest(dto);
+    }
+
+    @Override
+    public List<TransactionSummaryDto> getTransactionSummary(TransactionDto dto) {
+        List<TransactionSummaryGroup> groups = CollectionUtils.isEmpty(dto.getGroupBy())
+                ? Collections.emptyList()
+                : dto.getGroupBy().stream().map(TransactionSummaryGroup::from).distinct().toList();
+
+        TimeBucket timeBucket = StringUtils.hasText(dto.getTimeBucket())
+                ? TimeBucket.from(dto.getTimeBucket())
+                : null;
+
+        return transactionsDao.summarizeTransactions(dto, groups, timeBucket);
+    }
+
+    @Override
+    public List<BalanceSeriesDto> getBalanceSeries(TransactionDto dto) {
+        TimeBucket timeBucket = TimeBucket.from(dto.getTimeBucket());
+
+        // At most one point per bucket and account, whatever the number of transactions
+        long buckets = timeBucket.getUnit().between(dto.getStartTime(), dto.getEndTime()) + 1;
+        if (buckets > MAX_SERIES_BUCKETS) {
+            throw new BadRequestException("At most " + MAX_SERIES_BUCKETS + " buckets are allowed!");
+        }
+
+        // Unowned ids are rejected rather than silently dropped, so an owned account missing below has no transactions
+        Set<Long> ownedAccountIds = transactionsDao
+                .findOwnedReferences(dto.getUserId(), dto.getAccounts(), List.of())
+                .getAccountIds();
+        List<Long> unknownAccountIds = dto.getAccounts().stream()
+                .filter(accountId -> !ownedAccountIds.contains(accountId))
+                .distinct()
+                .toList();
+        if (!unknownAccountIds.isEmpty()) {
+            throw new BadRequestException("Account not found or deleted: " + unknownAccountIds);
+        }
+
+        return transactionsDao.findBalanceSeries(dto, timeBucket);
     }
 
     @Override
     @Transactional
     public void deleteTransaction(UUID id, UUID userId) {
-        LogicalTransaction logicalTransaction = logicalTransactionRepository.findById(id)
+        // Locked so that a concurrent delete waits and then finds the transaction already deleted
+        LogicalTransaction logicalTransaction = logicalTransactionRepository.findByIdForUpdate(id)
                 .filter(txn -> txn.getUserId().equals(userId))
                 .filter(txn -> !txn.getIsDeleted())
                 .map(txn -> {
@@ -104,12 +229,23 @@ public class TransactionServiceImpl implements TransactionService {
                 })
                 .orElseThrow(() -> new BadRequestException("Transaction not found"));
         logicalTransactionRepository.save(logicalTransaction);
+        currentTransactionRepository.deleteByLogicalTransactionId(logicalTransaction.getId());
+
+        // Reverse the current version out of the account balance
+        transactionsRepository.findById(logicalTransaction.getTransactionId())
+                .filter(txn -> !txn.getIsDeleted())
+                .ifPresent(txn -> {
+                    accountRepository.addToBalance(txn.getAccountId(), txn.getAmount().negate());
+                    monthlyRollupDao.removeTransactions(userId, List.of(txn));
+                    noteSuggestionCache.onNoteChanged(userId, txn.getNote(), null);
+                });
     }
 
     @Override
     @Transactional
     public Transactions updateTransaction(TransactionDto dto) {
-        LogicalTransaction logicalTransaction = logicalTransactionRepository.findById(dto.getId())
+        // Locked so that a concurrent update waits and then reads the version written here
+        LogicalTransaction logicalTransaction = logicalTransactionRepository.findByIdForUpdate(dto.getId())
                 .filter(txn -> txn.getUserId().equals(dto.getUserId()))
                 .filter(txn -> !txn.getIsDeleted())
                 .orElseThrow(() -> new BadRequestException("Transaction not found"));
@@ -125,15 +261,7 @@ public class TransactionServiceImpl implements TransactionService {
             return transactionsRepository.save(existing);
         }
 
-        accountRepository.findById(dto.getAccountId())
-                .filter(acc -> acc.getUserId().equals(dto.getUserId()))
-                .filter(acc -> !acc.getIsDeleted())
-                .orElseThrow(() -> new BadRequestException("Account not found"));
-
-        categoryRepository.findById(dto.getCategoryId())
-                .filter(cat -> cat.getUserId().equals(dto.getUserId()))
-                .filter(cat -> !cat.getIsDeleted())
-                .orElseThrow(() -> new BadRequestException("Category not found"));
+        validateOwnership(dto.getUserId(), dto.getAccountId(), dto.getCategoryId());
 
         // Gets +/- amount by txnType
         BigDecimal amount = applyTransactionTypeToAmount(dto.getTransactionType(), dto.getAmount());
@@ -142,6 +270,7 @@ public class TransactionServiceImpl implements TransactionService {
         // clone transaction
         Transactions newTransaction = new Transactions();
         copyDtoToEntity(dto, newTransaction);
+        newTransaction.setId(TimeBasedUuid.generate());
         newTransaction.setVersionNumber(existing.getVersionNumber() + 1);
         newTransaction.setLogicalTransactionId(logicalTransaction.getId());
 
@@ -150,12 +279,225 @@ public class TransactionServiceImpl implements TransactionService {
         // update new pointer txn
         logicalTransaction.setTransactionId(saved.getId());
         logicalTransactionRepository.save(logicalTransaction);
+        transactionsDao.refreshCurrentTransactions(List.of(logicalTransaction.getId()));
+
+        // move balance and rollups from the superseded version to the new one
+        applyBalanceDeltas(List.of(existing), List.of(saved));
+        monthlyRollupDao.replaceTransactions(dto.getUserId(), List.of(existing), List.of(saved));
+        noteSuggestionCache.onNoteChanged(dto.getUserId(), existing.getNote(), saved.getNote());
 
         return saved;
     }
 
+    @Override
+    @Transactional
+    public List<TransactionBatchResultDto> applyBatch(TransactionBatchDto dto) {
+        UUID userId = dto.getUserId();
+        List<TransactionDto> operations = dto.getOperations();
+
+        // Ownership of every referenced account and category in one query
+        Set<Long> accountIds = new HashSet<>();
+        Set<Long> categoryIds = new HashSet<>();
+        operations.stream().map(TransactionDto::getAccountId).filter(Objects::nonNull).forEach(accountIds::add);
+        operations.stream().map(TransactionDto::getCategoryId).filter(Objects::nonNull).forEach(categoryIds::add);
+        OwnedReferencesDto ownedReferences = transactionsDao.findOwnedReferences(userId, accountIds, categoryIds);
+
+        // Current version of every referenced transaction, replayed in memory and written once at the end
+        Set<UUID> ids = new HashSet<>();
+        operations.stream().map(TransactionDto::getId).filter(Objects::nonNull).forEach(ids::add);
+        Map<UUID, UUID> currentPointers = new HashMap<>();
+        BatchState state = new BatchState(loadCurrentVersions(ids, userId, currentPointers), currentPointers);
+
+        List<TransactionBatchResultDto> results = new ArrayList<>(operations.size());
+
+        for (int index = 0; index < operations.size(); index++) {
+            TransactionDto operation = operations.get(index);
+            try {
+                if (!StringUtils.hasText(operation.getOperation())) {
+                    throw new BadRequestException("Operation is mandatory!");
+                }
+
+                BatchOperation batchOperation = BatchOperation.from(operation.getOperation());
+                UUID id = switch (batchOperation) {
+                    case CREATE -> batchCreate(operation, ownedReferences, state);
+                    case UPDATE -> batchUpdate(operation, ownedReferences, state);
+                    case DELETE -> batchDelete(operation, state);
+                };
+                results.add(TransactionBatchResultDto.success(index, batchOperation, id));
+            } catch (BadRequestException e) {
+                results.add(TransactionBatchResultDto.failure(
+                        index, operation.getOperation(), operation.getId(), e.getMessage()));
+            }
+        }
+
+        writeBatch(userId, state);
+        return results;
+    }
+
     // ------------------ Helper methods ------------------
 
+    private Map<UUID, Transactions> loadCurrentVersions(
+            Set<UUID> ids, UUID userId, Map<UUID, UUID> transactionIdsByLogicalId) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        // Row locks held until commit, the versions read here stay current while the batch is replayed
+        logicalTransactionRepository.findAllByIdForUpdate(ids).stream()
+                .filter(txn -> txn.getUserId().equals(userId))
+                .filter(txn -> !txn.getIsDeleted())
+                .forEach(txn -> transactionIdsByLogicalId.put(txn.getId(), txn.getTransactionId()));
+
+        Map<UUID, Transactions> currentVersions = new HashMap<>();
+        transactionsRepository.findAllById(transactionIdsByLogicalId.values()).stream()
+                .filter(txn -> !txn.getIsDeleted())
+                .forEach(txn -> currentVersions.put(txn.getLogicalTransactionId(), txn));
+
+        return currentVersions;
+    }
+
+    private UUID batchCreate(TransactionDto dto, OwnedReferencesDto ownedReferences, BatchState state) {
+        validateTransactionFields(dto);
+        validateOwnership(ownedReferences, dto.getAccountId(), dto.getCategoryId());
+
+        Transactions transaction = new Transactions();
+        copyDtoToEntity(dto, transaction);
+        transaction.setAmount(applyTransactionTypeToAmount(dto.getTransactionType(), dto.getAmount()));
+        transaction.setId(TimeBasedUuid.generate());
+        transaction.setLogicalTransactionId(TimeBasedUuid.generate());
+        transaction.setVersionNumber(0L);
+
+        state.created.add(transaction);
+        state.added.add(transaction);
+        return transaction.getLogicalTransactionId();
+    }
+
+    private UUID batchUpdate(TransactionDto dto, OwnedReferencesDto ownedReferences, BatchState state) {
+        if (Objects.isNull(dto.getId())) {
+            throw new BadRequestException("Id is mandatory!");
+        }
+        validateTransactionFields(dto);
+
+        Transactions existing = state.currentVersions.get(dto.getId());
+        if (Objects.isNull(existing)) {
+            throw new BadRequestException("Transaction not found");
+        }
+
+        if (!isUserInputChanged(existing, dto)) {
+            return dto.getId();
+        }
+
+        validateOwnership(ownedReferences, dto.getAccountId(), dto.getCategoryId());
+
+        Transactions newVersion = new Transactions();
+        copyDtoToEntity(dto, newVersion);
+        newVersion.setAmount(applyTransactionTypeToAmount(dto.getTransactionType(), dto.getAmount()));
+        newVersion.setId(TimeBasedUuid.generate());
+        newVersion.setVersionNumber(existing.getVersionNumber() + 1);
+        newVersion.setLogicalTransactionId(dto.getId());
+
+        state.newVersions.add(newVersion);
+        state.pointers.put(dto.getId(), newVersion.getId());
+        state.currentVersions.put(dto.getId(), newVersion);
+        state.removed.add(existing);
+        state.added.add(newVersion);
+        return dto.getId();
+    }
+
+    private UUID batchDelete(TransactionDto dto, BatchState state) {
+        if (Objects.isNull(dto.getId())) {
+            throw new BadRequestException("Id is mandatory!");
+        }
+
+        Transactions existing = state.currentVersions.remove(dto.getId());
+        if (Objects.isNull(existing)) {
+            throw new BadRequestException("Transaction not found");
+        }
+
+        state.deleted.add(dto.getId());
+        state.removed.add(existing);
+        return dto.getId();
+    }
+
+    private void writeBatch(UUID userId, BatchState state) {
+        if (state.added.isEmpty() && state.removed.isEmpty()) {
+            return;
+        }
+
+        // JDBC batches, new rows first so that the pointers never reference a missing version
+        transactionsDao.insertTransactions(userId, state.created);
+        transactionsDao.insertTransactionVersions(state.newVersions);
+        int repointed = transactionsDao.repointLogicalTransactions(state.pointers, state.currentPointers);
+        int deleted = transactionsDao.softDeleteLogicalTransactions(state.deleted);
+
+        // Deltas below assume every pointer still referenced the version read at the start
+        if (repointed != state.pointers.size() || deleted != state.deleted.size()) {
+            throw new ConflictException("Transactions were modified concurrently, please retry");
+        }
+
+        Set<UUID> updated = new HashSet<>(state.pointers.keySet());
+        updated.removeAll(state.deleted);
+        transactionsDao.refreshCurrentTransactions(updated);
+        if (!state.deleted.isEmpty()) {
+            currentTransactionRepository.deleteByLogicalTransactionIds(state.deleted);
+        }
+
+        applyBalanceDeltas(state.removed, state.added);
+        monthlyRollupDao.replaceTransactions(userId, state.removed, state.added);
+        noteSuggestionCache.evict(userId);
+    }
+
+    private void applyBalanceDeltas(List<Transactions> removed, List<Transactions> added) {
+        // One balance update per touched account, in account id order so concurrent writers
+        // moving transactions between the same accounts lock them in the same order
+        Map<Long, BigDecimal> balanceDeltas = new TreeMap<>();
+        removed.forEach(txn ->
+                balanceDeltas.merge(txn.getAccountId(), txn.getAmount().negate(), BigDecimal::add));
+        added.forEach(txn ->
+                balanceDeltas.merge(txn.getAccountId(), txn.getAmount(), BigDecimal::add));
+        balanceDeltas.forEach(accountRepository::addToBalance);
+    }
+
+    private void validateTransactionFields(TransactionDto dto) {
+        if (Objects.isNull(dto.getAmount())) {
+            throw new BadRequestException("Amount is mandatory!");
+        }
+
+        if (dto.getAmount().signum() == 0) {
+            throw new BadRequestException("Amount value 0 is not allowed!");
+        }
+
+        if (!StringUtils.hasText(dto.getNote())) {
+            throw new BadRequestException("Note is mandatory!");
+        }
+
+        if (!StringUtils.hasText(dto.getTransactionType())) {
+            throw new BadRequestException("Transaction type is mandatory!");
+        }
+
+        if (Objects.isNull(dto.getAccountId())) {
+            throw new BadRequestException("Account id is mandatory!");
+        }
+
+        if (Objects.isNull(dto.getCategoryId())) {
+            throw new BadRequestException("Category id is mandatory!");
+        }
+
+        if (Objects.isNull(dto.getTransactionDatetime())) {
+            throw new BadRequestException("Transaction datetime is mandatory!");
+        }
+    }
+
+    private void validateOwnership(OwnedReferencesDto ownedReferences, Long accountId, Long categoryId) {
+        if (!ownedReferences.getAccountIds().contains(accountId)) {
+            throw new BadRequestException("Account not found or deleted");
+        }
+
+        if (!ownedReferences.getCategoryIds().contains(categoryId)) {
+            throw new BadRequestException("Category not found or deleted");
+        }
+    }
+
     private void copyDtoToEntity(TransactionDto dto, Transactions entity) {
         entity.setAmount(dto.getAmount());
         entity.setNote(dto.getNote());
@@ -165,6 +507,18 @@ public class TransactionServiceImpl implements TransactionService {
         entity.setTransactionDatetime(dto.getTransactionDatetime());
     }
 
+    private void validateOwnership(UUID userId, Long accountId, Long categoryId) {
+        Account account = referenceCache.getAccount(userId, accountId);
+        if (Objects.isNull(account) || account.getIsDeleted()) {
+            throw new BadRequestException("Account not found or deleted");
+        }
+
+        Category category = referenceCache.getCategory(userId, categoryId);
+        if (Objects.isNull(category) || category.getIsDeleted()) {
+            throw new BadRequestException("Category not found or deleted");
+        }
+    }
+
     private boolean isUserInputChanged(Transactions entity, TransactionDto dto) {
         if (notEquals(entity.getAmount().abs(), dto.getAmount())) return true;
         if (notEquals(entity.getNote(), dto.getNote())) return true;
@@ -190,15 +544,19 @@ public class TransactionServiceImpl implements TransactionService {
         return !a.equals(b);
     }
 
-    private Transactions populateTransientFields(Transactions transaction) {
+    private Transactions populateTransientFields(Transactions transaction, UUID userId) {
         if (transaction.getAccountId() != null) {
-            accountRepository.findById(transaction.getAccountId())
-                    .ifPresent(account -> transaction.setAccountName(account.getName()));
+            Account account = referenceCache.getAccount(userId, transaction.getAccountId());
+            if (account != null) {
+                transaction.setAccountName(account.getName());
+            }
         }
 
         if (transaction.getCategoryId() != null) {
-            categoryRepository.findById(transaction.getCategoryId())
-                    .ifPresent(category -> transaction.setCategoryName(category.getName()));
+            Category category = referenceCache.getCategory(userId, transaction.getCategoryId());
+            if (category != null) {
+                transaction.setCategoryName(category.getName());
+            }
         }
 
         return transaction;
@@ -212,7 +570,22 @@ public class TransactionServiceImpl implements TransactionService {
         };
     }
 
+    /**
+     * Writes collected while a batch is replayed, current versions reflect the operations applied so far.
+     */
+    private static final class BatchState {
+        private final Map<UUID, Transactions> currentVersions;
+        private final Map<UUID, UUID> currentPointers;
+        private final List<Transactions> created = new ArrayList<>();
+        private final List<Transactions> newVersions = new ArrayList<>();
+        private final Map<UUID, UUID> pointers = new LinkedHashMap<>();
+        private final Set<UUID> deleted = new HashSet<>();
+        private final List<Transactions> added = new ArrayList<>();
+        private final List<Transactions> removed = new ArrayList<>();
+
+        private BatchState(Map<UUID, Transactions> currentVersions, Map<UUID, UUID> currentPointers) {
+            this.currentVersions = currentVersions;
+            this.currentPointers = currentPointers;
+        }
+    }
 }
-
-
-
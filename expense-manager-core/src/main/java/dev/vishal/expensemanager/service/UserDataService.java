@@ -0,0 +1,10 @@
+package dev.vishal.expensemanager.service;
+
+import dev.vishal.expensemanager.dto.DeletedUserDataDto;
+
+import java.util.UUID;
+
+public interface UserDataService {
+
+    DeletedUserDataDto deleteUserData(UUID userId);
+}
@@ -0,0 +1,56 @@
+package dev.vishal.expensemanager.service;
+
+import dev.vishal.expensemanager.cache.CategoryTreeCache;
+import dev.vishal.expensemanager.cache.NoteSuggestionCache;
+import dev.vishal.expensemanager.cache.ReferenceCache;
+import dev.vishal.expensemanager.dao.MonthlyRollupDao;
+import dev.vishal.expensemanager.dto.DeletedUserDataDto;
+import dev.vishal.expensemanager.repository.AccountRepository;
+import dev.vishal.expensemanager.repository.CategoryRepository;
+import dev.vishal.expensemanager.repository.CurrentTransactionRepository;
+import dev.vishal.expensemanager.repository.LogicalTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Soft-deletes everything a user owns, called by the auth service when the user is deleted.
+ * Each table is updated with one statement, running it again is a no-op.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserDataServiceImpl implements UserDataService {
+
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final LogicalTransactionRepository logicalTransactionRepository;
+    private final CurrentTransactionRepository currentTransactionRepository;
+    private final MonthlyRollupDao monthlyRollupDao;
+    private final ReferenceCache referenceCache;
+    private final CategoryTreeCache categoryTreeCache;
+    private final NoteSuggestionCache noteSuggestionCache;
+
+    @Override
+    @Transactional
+    public DeletedUserDataDto deleteUserData(UUID userId) {
+        // Ids are read first, only these entries can be cached as not deleted
+        List<Long> accountIds = accountRepository.findIdsByUserIdAndIsDeletedFalse(userId);
+        List<Long> categoryIds = categoryRepository.findIdsByUserIdAndIsDeletedFalse(userId);
+
+        int deletedTransactions = logicalTransactionRepository.softDeleteAllByUserId(userId);
+        currentTransactionRepository.deleteAllByUserId(userId);
+        monthlyRollupDao.deleteAllByUserId(userId);
+        int deletedAccounts = accountRepository.softDeleteAllByUserId(userId);
+        int deletedCategories = categoryRepository.softDeleteAllByUserId(userId);
+
+        accountIds.forEach(id -> referenceCache.evictAccount(userId, id));
+        categoryIds.forEach(id -> referenceCache.evictCategory(userId, id));
+        categoryTreeCache.evict(userId);
+        noteSuggestionCache.evict(userId);
+
+        return new DeletedUserDataDto(deletedAccounts, deletedCategories, deletedTransactions);
+    }
+}
@@ -0,0 +1,4 @@
+-- Running balance series scan one account in datetime order, amount and owner are read from the index
+DROP INDEX IF EXISTS IDX_CURRENT_TRANSACTION_ACCOUNT_ID;
+CREATE INDEX IF NOT EXISTS IDX_CURRENT_TRANSACTION_ACCOUNT_DATETIME
+    ON CURRENT_TRANSACTION (ACCOUNT_ID, TRANSACTION_DATETIME) INCLUDE (AMOUNT, USER_ID);
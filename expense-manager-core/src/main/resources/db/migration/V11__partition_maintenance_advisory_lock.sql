@@ -0,0 +1,23 @@
+-- ENSURE_MONTHLY_PARTITIONS runs on every instance at startup and from the nightly job. A transaction scoped
+-- advisory lock per parent table serializes concurrent runs, the second one finds the partitions created.
+CREATE OR REPLACE FUNCTION ENSURE_MONTHLY_PARTITIONS(PARENT_TABLE TEXT, MONTHS_AHEAD INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    PARTITION_MONTH DATE;
+    CREATED INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_monthly_partitions:' || PARENT_TABLE));
+
+    FOR PARTITION_MONTH IN EXECUTE format(
+            'SELECT generate_series(date_trunc(''month'', now()), date_trunc(''month'', now()) + make_interval(months => %s), INTERVAL ''1 month'')::date'
+                || ' UNION SELECT DISTINCT date_trunc(''month'', transaction_datetime)::date FROM %I',
+            MONTHS_AHEAD, PARENT_TABLE || '_default')
+    LOOP
+        IF CREATE_MONTHLY_PARTITION(PARENT_TABLE, PARTITION_MONTH) THEN
+            CREATED := CREATED + 1;
+        END IF;
+    END LOOP;
+
+    RETURN CREATED;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,83 @@
+-- BASELINE: the original pgschema DDL, so an empty database can be built from migrations alone.
+-- Every statement is a no-op when the object already exists, which lets V1 also run against schemas
+-- created by hand from pgschema/*.sql (original or current) or by the auth service.
+
+-- USERS is owned by expense-manager-auth (pgschema/users.sql), core tables reference it
+CREATE TABLE IF NOT EXISTS USERS (
+    ID UUID PRIMARY KEY DEFAULT GEN_RANDOM_UUID(),
+    FIRST_NAME VARCHAR(255) NOT NULL,
+    LAST_NAME VARCHAR(255) NOT NULL,
+    EMAIL VARCHAR(255) NOT NULL,
+    PASSWORD VARCHAR(255) NOT NULL,
+    CREATED_ON TIMESTAMP NOT NULL,
+    UPDATED_ON TIMESTAMP NOT NULL,
+    IS_DELETED BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+-- ACCOUNT
+CREATE TABLE IF NOT EXISTS ACCOUNT (
+	ID BIGSERIAL PRIMARY KEY,
+	USER_ID UUID NOT NULL,
+	TYPE VARCHAR(50) NOT NULL,
+	NAME VARCHAR(100) NOT NULL,
+	CREATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+	UPDATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+	IS_DELETED BOOLEAN DEFAULT FALSE,
+	CONSTRAINT FK_USER_ID FOREIGN KEY (USER_ID) REFERENCES USERS (ID)
+);
+
+-- CATEGORY
+CREATE TABLE IF NOT EXISTS CATEGORY (
+    ID BIGSERIAL PRIMARY KEY,
+	USER_ID UUID NOT NULL,
+    NAME VARCHAR(100) NOT NULL,
+    PARENT_CATEGORY_ID BIGINT NULL REFERENCES CATEGORY(ID),
+    CREATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    IS_DELETED BOOLEAN DEFAULT FALSE,
+    CONSTRAINT FK_PARENT_CATEGORY_ID FOREIGN KEY (PARENT_CATEGORY_ID) REFERENCES CATEGORY(ID),
+	CONSTRAINT FK_USER_ID FOREIGN KEY (USER_ID) REFERENCES USERS (ID)
+);
+
+-- LOGICAL_TRANSACTION <-> TRANSACTIONS reference each other, FK_TRANSACTION_ID is added once both exist
+CREATE TABLE IF NOT EXISTS LOGICAL_TRANSACTION (
+	ID UUID PRIMARY KEY,
+	TRANSACTION_ID UUID NOT NULL,
+	USER_ID UUID NOT NULL,
+	CREATED_ON TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	UPDATED_ON TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	IS_DELETED BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT FK_USER_ID FOREIGN KEY (USER_ID) REFERENCES USERS(ID)
+);
+
+-- TRANSACTIONS
+CREATE TABLE IF NOT EXISTS TRANSACTIONS (
+	ID UUID PRIMARY KEY,
+	LOGICAL_TRANSACTION_ID UUID,
+	VERSION_NUMBER BIGINT NOT NULL,
+	AMOUNT NUMERIC(12, 2) NOT NULL,
+	NOTE TEXT,
+	TRANSACTION_TYPE VARCHAR(50) NOT NULL,
+	ACCOUNT_ID BIGINT NOT NULL REFERENCES ACCOUNT (ID),
+	CATEGORY_ID BIGINT NOT NULL REFERENCES CATEGORY (ID),
+	TRANSACTION_DATETIME TIMESTAMP NOT NULL,
+	CREATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+	UPDATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+	IS_DELETED BOOLEAN DEFAULT FALSE,
+    CONSTRAINT FK_LOGICAL_TRANSACTION_ID FOREIGN KEY (LOGICAL_TRANSACTION_ID) REFERENCES LOGICAL_TRANSACTION(ID),
+    CONSTRAINT FK_ACCOUNT_ID FOREIGN KEY (ACCOUNT_ID) REFERENCES ACCOUNT(ID),
+    CONSTRAINT FK_CATEGORY_ID FOREIGN KEY (CATEGORY_ID) REFERENCES CATEGORY(ID)
+);
+
+-- Skipped when TRANSACTIONS is already partitioned (current pgschema), ID alone is not unique there
+DO $$
+BEGIN
+    IF NOT EXISTS (
+            SELECT 1 FROM pg_constraint
+            WHERE conname = 'fk_transaction_id' AND conrelid = 'logical_transaction'::regclass)
+        AND NOT EXISTS (
+            SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'transactions'::regclass) THEN
+        ALTER TABLE LOGICAL_TRANSACTION
+            ADD CONSTRAINT FK_TRANSACTION_ID FOREIGN KEY (TRANSACTION_ID) REFERENCES TRANSACTIONS(ID);
+    END IF;
+END $$;
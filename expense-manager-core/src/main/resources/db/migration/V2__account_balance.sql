@@ -0,0 +1,10 @@
+-- ACCOUNT BALANCE
+ALTER TABLE ACCOUNT ADD COLUMN IF NOT EXISTS BALANCE NUMERIC(14, 2) NOT NULL DEFAULT 0;
+
+UPDATE ACCOUNT A
+SET BALANCE = COALESCE((
+    SELECT SUM(T.AMOUNT)
+    FROM LOGICAL_TRANSACTION LT
+    JOIN TRANSACTIONS T ON T.ID = LT.TRANSACTION_ID
+    WHERE LT.IS_DELETED = FALSE AND T.IS_DELETED = FALSE AND T.ACCOUNT_ID = A.ID
+), 0);
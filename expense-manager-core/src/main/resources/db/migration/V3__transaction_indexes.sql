@@ -0,0 +1,21 @@
+-- LOGICAL_TRANSACTION: every read filters by user and deleted flag, then joins on the current version
+CREATE INDEX IF NOT EXISTS IDX_LOGICAL_TRANSACTION_USER_DELETED
+    ON LOGICAL_TRANSACTION (USER_ID, IS_DELETED) INCLUDE (TRANSACTION_ID);
+CREATE UNIQUE INDEX IF NOT EXISTS IDX_LOGICAL_TRANSACTION_TRANSACTION_ID
+    ON LOGICAL_TRANSACTION (TRANSACTION_ID);
+
+-- TRANSACTIONS: account filters and datetime sorting / keyset pagination
+CREATE INDEX IF NOT EXISTS IDX_TRANSACTIONS_ACCOUNT_DATETIME
+    ON TRANSACTIONS (ACCOUNT_ID, TRANSACTION_DATETIME);
+CREATE INDEX IF NOT EXISTS IDX_TRANSACTIONS_DATETIME_ID
+    ON TRANSACTIONS (TRANSACTION_DATETIME, ID);
+CREATE INDEX IF NOT EXISTS IDX_TRANSACTIONS_LOGICAL_TRANSACTION_ID
+    ON TRANSACTIONS (LOGICAL_TRANSACTION_ID);
+
+-- ACCOUNT / CATEGORY: per-user listings
+CREATE INDEX IF NOT EXISTS IDX_ACCOUNT_USER_DELETED
+    ON ACCOUNT (USER_ID, IS_DELETED);
+CREATE INDEX IF NOT EXISTS IDX_CATEGORY_USER_DELETED
+    ON CATEGORY (USER_ID, IS_DELETED);
+CREATE INDEX IF NOT EXISTS IDX_CATEGORY_PARENT_CATEGORY_ID
+    ON CATEGORY (PARENT_CATEGORY_ID);
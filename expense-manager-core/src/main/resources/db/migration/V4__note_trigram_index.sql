@@ -0,0 +1,5 @@
+-- NOTE SEARCH: lets lower(note) LIKE '%x%' (findNotes / noteLike filter) use an index instead of a scan
+CREATE EXTENSION IF NOT EXISTS PG_TRGM;
+
+CREATE INDEX IF NOT EXISTS IDX_TRANSACTIONS_NOTE_TRGM
+    ON TRANSACTIONS USING GIN (LOWER(NOTE) GIN_TRGM_OPS);
@@ -0,0 +1,19 @@
+-- TRANSACTIONS <-> LOGICAL_TRANSACTION reference each other, deferring the checks to commit
+-- lets a new transaction insert both rows with final ids instead of INSERT + INSERT + UPDATE.
+-- Constraints that are missing (current pgschema has no FK_TRANSACTION_ID) or already deferrable are left alone.
+DO $$
+BEGIN
+    IF EXISTS (
+            SELECT 1 FROM pg_constraint
+            WHERE conname = 'fk_logical_transaction_id' AND conrelid = 'transactions'::regclass
+              AND NOT condeferrable) THEN
+        ALTER TABLE TRANSACTIONS ALTER CONSTRAINT FK_LOGICAL_TRANSACTION_ID DEFERRABLE INITIALLY DEFERRED;
+    END IF;
+
+    IF EXISTS (
+            SELECT 1 FROM pg_constraint
+            WHERE conname = 'fk_transaction_id' AND conrelid = 'logical_transaction'::regclass
+              AND NOT condeferrable) THEN
+        ALTER TABLE LOGICAL_TRANSACTION ALTER CONSTRAINT FK_TRANSACTION_ID DEFERRABLE INITIALLY DEFERRED;
+    END IF;
+END $$;
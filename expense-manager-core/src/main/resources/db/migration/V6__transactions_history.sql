@@ -0,0 +1,20 @@
+-- TRANSACTIONS_HISTORY: superseded transaction versions moved out of TRANSACTIONS by the compaction job,
+-- same columns as TRANSACTIONS, no foreign keys so archiving never contends with live rows
+CREATE TABLE IF NOT EXISTS TRANSACTIONS_HISTORY (
+	ID UUID PRIMARY KEY,
+	LOGICAL_TRANSACTION_ID UUID,
+	VERSION_NUMBER BIGINT NOT NULL,
+	AMOUNT NUMERIC(12, 2) NOT NULL,
+	NOTE TEXT,
+	TRANSACTION_TYPE VARCHAR(50) NOT NULL,
+	ACCOUNT_ID BIGINT NOT NULL,
+	CATEGORY_ID BIGINT NOT NULL,
+	TRANSACTION_DATETIME TIMESTAMP NOT NULL,
+	CREATED_ON TIMESTAMP,
+	UPDATED_ON TIMESTAMP,
+	IS_DELETED BOOLEAN,
+	ARCHIVED_ON TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS IDX_TRANSACTIONS_HISTORY_LOGICAL_VERSION
+    ON TRANSACTIONS_HISTORY (LOGICAL_TRANSACTION_ID, VERSION_NUMBER);
@@ -0,0 +1,157 @@
+-- TRANSACTIONS and TRANSACTIONS_HISTORY become range partitioned by TRANSACTION_DATETIME, one partition per month.
+-- Unique keys of a partitioned table must include the partition key, so the primary keys become
+-- (ID, TRANSACTION_DATETIME) and LOGICAL_TRANSACTION.TRANSACTION_ID can no longer reference TRANSACTIONS by FK.
+
+-- Creates the month partition of PARENT_TABLE containing PARTITION_MONTH, moving rows of that month
+-- out of the default partition when needed. Returns false when the partition already exists.
+CREATE OR REPLACE FUNCTION CREATE_MONTHLY_PARTITION(PARENT_TABLE TEXT, PARTITION_MONTH DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    START_DATE DATE := date_trunc('month', PARTITION_MONTH)::date;
+    END_DATE DATE := (date_trunc('month', PARTITION_MONTH) + INTERVAL '1 month')::date;
+    PARTITION_NAME TEXT := PARENT_TABLE || '_' || to_char(PARTITION_MONTH, 'YYYY_MM');
+    DEFAULT_NAME TEXT := PARENT_TABLE || '_default';
+    HAS_DEFAULT_ROWS BOOLEAN;
+BEGIN
+    IF to_regclass(PARTITION_NAME) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format(
+            'SELECT EXISTS (SELECT 1 FROM %I WHERE transaction_datetime >= %L AND transaction_datetime < %L)',
+            DEFAULT_NAME, START_DATE, END_DATE)
+        INTO HAS_DEFAULT_ROWS;
+
+    IF HAS_DEFAULT_ROWS THEN
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS)', PARTITION_NAME, PARENT_TABLE);
+        EXECUTE format(
+                'WITH moved AS (DELETE FROM %I WHERE transaction_datetime >= %L AND transaction_datetime < %L RETURNING *)'
+                    || ' INSERT INTO %I SELECT * FROM moved',
+                DEFAULT_NAME, START_DATE, END_DATE, PARTITION_NAME);
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                PARENT_TABLE, PARTITION_NAME, START_DATE, END_DATE);
+    ELSE
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                PARTITION_NAME, PARENT_TABLE, START_DATE, END_DATE);
+    END IF;
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the partitions of PARENT_TABLE from the current month to MONTHS_AHEAD months ahead, plus one for
+-- every month that has rows in the default partition. Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION ENSURE_MONTHLY_PARTITIONS(PARENT_TABLE TEXT, MONTHS_AHEAD INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    PARTITION_MONTH DATE;
+    CREATED INTEGER := 0;
+BEGIN
+    FOR PARTITION_MONTH IN EXECUTE format(
+            'SELECT generate_series(date_trunc(''month'', now()), date_trunc(''month'', now()) + make_interval(months => %s), INTERVAL ''1 month'')::date'
+                || ' UNION SELECT DISTINCT date_trunc(''month'', transaction_datetime)::date FROM %I',
+            MONTHS_AHEAD, PARENT_TABLE || '_default')
+    LOOP
+        IF CREATE_MONTHLY_PARTITION(PARENT_TABLE, PARTITION_MONTH) THEN
+            CREATED := CREATED + 1;
+        END IF;
+    END LOOP;
+
+    RETURN CREATED;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Each table is converted only when it is not partitioned yet, schemas created from the current
+-- pgschema files already have the partitioned tables and their default partitions.
+
+-- TRANSACTIONS
+DO $$
+DECLARE
+    PARTITION_MONTH DATE;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'transactions'::regclass) THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE LOGICAL_TRANSACTION DROP CONSTRAINT IF EXISTS FK_TRANSACTION_ID;
+    ALTER TABLE TRANSACTIONS RENAME TO TRANSACTIONS_LEGACY;
+
+    CREATE TABLE TRANSACTIONS (
+        ID UUID NOT NULL,
+        LOGICAL_TRANSACTION_ID UUID,
+        VERSION_NUMBER BIGINT NOT NULL,
+        AMOUNT NUMERIC(12, 2) NOT NULL,
+        NOTE TEXT,
+        TRANSACTION_TYPE VARCHAR(50) NOT NULL,
+        ACCOUNT_ID BIGINT NOT NULL,
+        CATEGORY_ID BIGINT NOT NULL,
+        TRANSACTION_DATETIME TIMESTAMP NOT NULL,
+        CREATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+        UPDATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+        IS_DELETED BOOLEAN DEFAULT FALSE,
+        CONSTRAINT PK_TRANSACTIONS PRIMARY KEY (ID, TRANSACTION_DATETIME),
+        CONSTRAINT FK_LOGICAL_TRANSACTION_ID FOREIGN KEY (LOGICAL_TRANSACTION_ID) REFERENCES LOGICAL_TRANSACTION(ID) DEFERRABLE INITIALLY DEFERRED,
+        CONSTRAINT FK_ACCOUNT_ID FOREIGN KEY (ACCOUNT_ID) REFERENCES ACCOUNT(ID),
+        CONSTRAINT FK_CATEGORY_ID FOREIGN KEY (CATEGORY_ID) REFERENCES CATEGORY(ID)
+    ) PARTITION BY RANGE (TRANSACTION_DATETIME);
+
+    CREATE TABLE TRANSACTIONS_DEFAULT PARTITION OF TRANSACTIONS DEFAULT;
+
+    FOR PARTITION_MONTH IN SELECT DISTINCT date_trunc('month', TRANSACTION_DATETIME)::date FROM TRANSACTIONS_LEGACY
+    LOOP
+        PERFORM CREATE_MONTHLY_PARTITION('transactions', PARTITION_MONTH);
+    END LOOP;
+
+    PERFORM ENSURE_MONTHLY_PARTITIONS('transactions', 3);
+
+    INSERT INTO TRANSACTIONS SELECT * FROM TRANSACTIONS_LEGACY;
+    DROP TABLE TRANSACTIONS_LEGACY;
+
+    CREATE INDEX IDX_TRANSACTIONS_ACCOUNT_DATETIME ON TRANSACTIONS (ACCOUNT_ID, TRANSACTION_DATETIME);
+    CREATE INDEX IDX_TRANSACTIONS_DATETIME_ID ON TRANSACTIONS (TRANSACTION_DATETIME, ID);
+    CREATE INDEX IDX_TRANSACTIONS_LOGICAL_TRANSACTION_ID ON TRANSACTIONS (LOGICAL_TRANSACTION_ID);
+    CREATE INDEX IDX_TRANSACTIONS_NOTE_TRGM ON TRANSACTIONS USING GIN (LOWER(NOTE) GIN_TRGM_OPS);
+END $$;
+
+-- TRANSACTIONS_HISTORY
+DO $$
+DECLARE
+    PARTITION_MONTH DATE;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'transactions_history'::regclass) THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE TRANSACTIONS_HISTORY RENAME TO TRANSACTIONS_HISTORY_LEGACY;
+
+    CREATE TABLE TRANSACTIONS_HISTORY (
+        ID UUID NOT NULL,
+        LOGICAL_TRANSACTION_ID UUID,
+        VERSION_NUMBER BIGINT NOT NULL,
+        AMOUNT NUMERIC(12, 2) NOT NULL,
+        NOTE TEXT,
+        TRANSACTION_TYPE VARCHAR(50) NOT NULL,
+        ACCOUNT_ID BIGINT NOT NULL,
+        CATEGORY_ID BIGINT NOT NULL,
+        TRANSACTION_DATETIME TIMESTAMP NOT NULL,
+        CREATED_ON TIMESTAMP,
+        UPDATED_ON TIMESTAMP,
+        IS_DELETED BOOLEAN,
+        ARCHIVED_ON TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+        CONSTRAINT PK_TRANSACTIONS_HISTORY PRIMARY KEY (ID, TRANSACTION_DATETIME)
+    ) PARTITION BY RANGE (TRANSACTION_DATETIME);
+
+    CREATE TABLE TRANSACTIONS_HISTORY_DEFAULT PARTITION OF TRANSACTIONS_HISTORY DEFAULT;
+
+    FOR PARTITION_MONTH IN SELECT DISTINCT date_trunc('month', TRANSACTION_DATETIME)::date FROM TRANSACTIONS_HISTORY_LEGACY
+    LOOP
+        PERFORM CREATE_MONTHLY_PARTITION('transactions_history', PARTITION_MONTH);
+    END LOOP;
+
+    PERFORM ENSURE_MONTHLY_PARTITIONS('transactions_history', 3);
+
+    INSERT INTO TRANSACTIONS_HISTORY SELECT * FROM TRANSACTIONS_HISTORY_LEGACY;
+    DROP TABLE TRANSACTIONS_HISTORY_LEGACY;
+
+    CREATE INDEX IDX_TRANSACTIONS_HISTORY_LOGICAL_VERSION ON TRANSACTIONS_HISTORY (LOGICAL_TRANSACTION_ID, VERSION_NUMBER);
+END $$;
@@ -0,0 +1,38 @@
+-- CURRENT_TRANSACTION: one row per live logical transaction with its current version and account / category names,
+-- maintained by the application in the same DB transaction as every write, so list reads need no joins
+CREATE TABLE IF NOT EXISTS CURRENT_TRANSACTION (
+	LOGICAL_TRANSACTION_ID UUID PRIMARY KEY,
+	USER_ID UUID NOT NULL,
+	TRANSACTION_ID UUID NOT NULL,
+	AMOUNT NUMERIC(12, 2) NOT NULL,
+	NOTE TEXT,
+	TRANSACTION_TYPE VARCHAR(50) NOT NULL,
+	TRANSACTION_DATETIME TIMESTAMP NOT NULL,
+	ACCOUNT_ID BIGINT NOT NULL,
+	ACCOUNT_NAME VARCHAR(100) NOT NULL,
+	CATEGORY_ID BIGINT NOT NULL,
+	CATEGORY_NAME VARCHAR(100) NOT NULL,
+	CREATED_ON TIMESTAMP,
+	UPDATED_ON TIMESTAMP
+);
+
+INSERT INTO CURRENT_TRANSACTION (LOGICAL_TRANSACTION_ID, USER_ID, TRANSACTION_ID, AMOUNT, NOTE, TRANSACTION_TYPE,
+        TRANSACTION_DATETIME, ACCOUNT_ID, ACCOUNT_NAME, CATEGORY_ID, CATEGORY_NAME, CREATED_ON, UPDATED_ON)
+SELECT LT.ID, LT.USER_ID, T.ID, T.AMOUNT, T.NOTE, T.TRANSACTION_TYPE,
+       T.TRANSACTION_DATETIME, A.ID, A.NAME, C.ID, C.NAME, T.CREATED_ON, T.UPDATED_ON
+FROM LOGICAL_TRANSACTION LT
+JOIN TRANSACTIONS T ON T.ID = LT.TRANSACTION_ID
+JOIN ACCOUNT A ON A.ID = T.ACCOUNT_ID
+JOIN CATEGORY C ON C.ID = T.CATEGORY_ID
+WHERE LT.IS_DELETED = FALSE AND T.IS_DELETED = FALSE
+ON CONFLICT (LOGICAL_TRANSACTION_ID) DO NOTHING;
+
+-- listing / keyset pagination per user, renames, note search
+CREATE INDEX IF NOT EXISTS IDX_CURRENT_TRANSACTION_USER_DATETIME
+    ON CURRENT_TRANSACTION (USER_ID, TRANSACTION_DATETIME, TRANSACTION_ID);
+CREATE INDEX IF NOT EXISTS IDX_CURRENT_TRANSACTION_ACCOUNT_ID
+    ON CURRENT_TRANSACTION (ACCOUNT_ID);
+CREATE INDEX IF NOT EXISTS IDX_CURRENT_TRANSACTION_CATEGORY_ID
+    ON CURRENT_TRANSACTION (CATEGORY_ID);
+CREATE INDEX IF NOT EXISTS IDX_CURRENT_TRANSACTION_NOTE_TRGM
+    ON CURRENT_TRANSACTION USING GIN (LOWER(NOTE) GIN_TRGM_OPS);
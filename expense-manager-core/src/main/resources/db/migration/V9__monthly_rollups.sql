@@ -0,0 +1,39 @@
+-- Per-user monthly rollups, maintained from transaction write deltas.
+-- Credits and debits are kept as positive magnitudes, rows may reach a zero count after deletes.
+CREATE TABLE IF NOT EXISTS MONTHLY_CATEGORY_ROLLUP (
+	USER_ID UUID NOT NULL,
+	MONTH DATE NOT NULL,
+	CATEGORY_ID BIGINT NOT NULL,
+	TOTAL_CREDIT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+	TOTAL_DEBIT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+	TRANSACTION_COUNT BIGINT NOT NULL DEFAULT 0,
+	PRIMARY KEY (USER_ID, MONTH, CATEGORY_ID)
+);
+
+CREATE TABLE IF NOT EXISTS MONTHLY_ACCOUNT_ROLLUP (
+	USER_ID UUID NOT NULL,
+	MONTH DATE NOT NULL,
+	ACCOUNT_ID BIGINT NOT NULL,
+	TOTAL_CREDIT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+	TOTAL_DEBIT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+	TRANSACTION_COUNT BIGINT NOT NULL DEFAULT 0,
+	PRIMARY KEY (USER_ID, MONTH, ACCOUNT_ID)
+);
+
+INSERT INTO MONTHLY_CATEGORY_ROLLUP (USER_ID, MONTH, CATEGORY_ID, TOTAL_CREDIT, TOTAL_DEBIT, TRANSACTION_COUNT)
+SELECT USER_ID, DATE_TRUNC('month', TRANSACTION_DATETIME)::DATE, CATEGORY_ID,
+       COALESCE(SUM(AMOUNT) FILTER (WHERE AMOUNT > 0), 0),
+       COALESCE(-SUM(AMOUNT) FILTER (WHERE AMOUNT < 0), 0),
+       COUNT(*)
+FROM CURRENT_TRANSACTION
+GROUP BY USER_ID, DATE_TRUNC('month', TRANSACTION_DATETIME)::DATE, CATEGORY_ID
+ON CONFLICT DO NOTHING;
+
+INSERT INTO MONTHLY_ACCOUNT_ROLLUP (USER_ID, MONTH, ACCOUNT_ID, TOTAL_CREDIT, TOTAL_DEBIT, TRANSACTION_COUNT)
+SELECT USER_ID, DATE_TRUNC('month', TRANSACTION_DATETIME)::DATE, ACCOUNT_ID,
+       COALESCE(SUM(AMOUNT) FILTER (WHERE AMOUNT > 0), 0),
+       COALESCE(-SUM(AMOUNT) FILTER (WHERE AMOUNT < 0), 0),
+       COUNT(*)
+FROM CURRENT_TRANSACTION
+GROUP BY USER_ID, DATE_TRUNC('month', TRANSACTION_DATETIME)::DATE, ACCOUNT_ID
+ON CONFLICT DO NOTHING;
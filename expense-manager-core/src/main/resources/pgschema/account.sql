@@ -4,8 +4,11 @@ CREATE TABLE ACCOUNT (
 	USER_ID UUID NOT NULL,
 	TYPE VARCHAR(50) NOT NULL,
 	NAME VARCHAR(100) NOT NULL,
+	BALANCE NUMERIC(14, 2) NOT NULL DEFAULT 0,
 	CREATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
 	UPDATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
 	IS_DELETED BOOLEAN DEFAULT FALSE,
 	CONSTRAINT FK_USER_ID FOREIGN KEY (USER_ID) REFERENCES USERS (ID)
-);
\ No newline at end of file
+);
+
+CREATE INDEX IDX_ACCOUNT_USER_DELETED ON ACCOUNT (USER_ID, IS_DELETED);
\ No newline at end of file
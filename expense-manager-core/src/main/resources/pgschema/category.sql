@@ -9,4 +9,7 @@ CREATE TABLE CATEGORY (
     IS_DELETED BOOLEAN DEFAULT FALSE,
     CONSTRAINT FK_PARENT_CATEGORY_ID FOREIGN KEY (PARENT_CATEGORY_ID) REFERENCES CATEGORY(ID),
 	CONSTRAINT FK_USER_ID FOREIGN KEY (USER_ID) REFERENCES USERS (ID)
-);
\ No newline at end of file
+);
+
+CREATE INDEX IDX_CATEGORY_USER_DELETED ON CATEGORY (USER_ID, IS_DELETED);
+CREATE INDEX IDX_CATEGORY_PARENT_CATEGORY_ID ON CATEGORY (PARENT_CATEGORY_ID);
\ No newline at end of file
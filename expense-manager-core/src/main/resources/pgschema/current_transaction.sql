@@ -0,0 +1,23 @@
+-- Read model, one row per live logical transaction (see V8 migration)
+CREATE TABLE CURRENT_TRANSACTION (
+	LOGICAL_TRANSACTION_ID UUID PRIMARY KEY,
+	USER_ID UUID NOT NULL,
+	TRANSACTION_ID UUID NOT NULL,
+	AMOUNT NUMERIC(12, 2) NOT NULL,
+	NOTE TEXT,
+	TRANSACTION_TYPE VARCHAR(50) NOT NULL,
+	TRANSACTION_DATETIME TIMESTAMP NOT NULL,
+	ACCOUNT_ID BIGINT NOT NULL,
+	ACCOUNT_NAME VARCHAR(100) NOT NULL,
+	CATEGORY_ID BIGINT NOT NULL,
+	CATEGORY_NAME VARCHAR(100) NOT NULL,
+	CREATED_ON TIMESTAMP,
+	UPDATED_ON TIMESTAMP
+);
+
+CREATE INDEX IDX_CURRENT_TRANSACTION_USER_DATETIME ON CURRENT_TRANSACTION (USER_ID, TRANSACTION_DATETIME, TRANSACTION_ID);
+CREATE INDEX IDX_CURRENT_TRANSACTION_ACCOUNT_DATETIME ON CURRENT_TRANSACTION (ACCOUNT_ID, TRANSACTION_DATETIME) INCLUDE (AMOUNT, USER_ID);
+CREATE INDEX IDX_CURRENT_TRANSACTION_CATEGORY_ID ON CURRENT_TRANSACTION (CATEGORY_ID);
+
+-- Requires: CREATE EXTENSION IF NOT EXISTS PG_TRGM;
+CREATE INDEX IDX_CURRENT_TRANSACTION_NOTE_TRGM ON CURRENT_TRANSACTION USING GIN (LOWER(NOTE) GIN_TRGM_OPS);
@@ -5,6 +5,9 @@ CREATE TABLE LOGICAL_TRANSACTION (
 	CREATED_ON TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
 	UPDATED_ON TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
 	IS_DELETED BOOLEAN NOT NULL DEFAULT FALSE,
-    CONSTRAINT FK_TRANSACTION_ID FOREIGN KEY (TRANSACTION_ID) REFERENCES TRANSACTIONS(ID),
+    -- No FK on TRANSACTION_ID, TRANSACTIONS is partitioned and ID alone is not unique-constrained
     CONSTRAINT FK_USER_ID FOREIGN KEY (USER_ID) REFERENCES USERS(ID)
-);
\ No newline at end of file
+);
+
+CREATE INDEX IDX_LOGICAL_TRANSACTION_USER_DELETED ON LOGICAL_TRANSACTION (USER_ID, IS_DELETED) INCLUDE (TRANSACTION_ID);
+CREATE UNIQUE INDEX IDX_LOGICAL_TRANSACTION_TRANSACTION_ID ON LOGICAL_TRANSACTION (TRANSACTION_ID);
\ No newline at end of file
@@ -0,0 +1,20 @@
+-- Monthly rollups, maintained from transaction write deltas (see V9 migration)
+CREATE TABLE MONTHLY_CATEGORY_ROLLUP (
+	USER_ID UUID NOT NULL,
+	MONTH DATE NOT NULL,
+	CATEGORY_ID BIGINT NOT NULL,
+	TOTAL_CREDIT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+	TOTAL_DEBIT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+	TRANSACTION_COUNT BIGINT NOT NULL DEFAULT 0,
+	PRIMARY KEY (USER_ID, MONTH, CATEGORY_ID)
+);
+
+CREATE TABLE MONTHLY_ACCOUNT_ROLLUP (
+	USER_ID UUID NOT NULL,
+	MONTH DATE NOT NULL,
+	ACCOUNT_ID BIGINT NOT NULL,
+	TOTAL_CREDIT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+	TOTAL_DEBIT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+	TRANSACTION_COUNT BIGINT NOT NULL DEFAULT 0,
+	PRIMARY KEY (USER_ID, MONTH, ACCOUNT_ID)
+);
@@ -0,0 +1,61 @@
+-- Creates the month partition of PARENT_TABLE containing PARTITION_MONTH, moving rows of that month
+-- out of the default partition when needed. Returns false when the partition already exists.
+CREATE OR REPLACE FUNCTION CREATE_MONTHLY_PARTITION(PARENT_TABLE TEXT, PARTITION_MONTH DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    START_DATE DATE := date_trunc('month', PARTITION_MONTH)::date;
+    END_DATE DATE := (date_trunc('month', PARTITION_MONTH) + INTERVAL '1 month')::date;
+    PARTITION_NAME TEXT := PARENT_TABLE || '_' || to_char(PARTITION_MONTH, 'YYYY_MM');
+    DEFAULT_NAME TEXT := PARENT_TABLE || '_default';
+    HAS_DEFAULT_ROWS BOOLEAN;
+BEGIN
+    IF to_regclass(PARTITION_NAME) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format(
+            'SELECT EXISTS (SELECT 1 FROM %I WHERE transaction_datetime >= %L AND transaction_datetime < %L)',
+            DEFAULT_NAME, START_DATE, END_DATE)
+        INTO HAS_DEFAULT_ROWS;
+
+    IF HAS_DEFAULT_ROWS THEN
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS)', PARTITION_NAME, PARENT_TABLE);
+        EXECUTE format(
+                'WITH moved AS (DELETE FROM %I WHERE transaction_datetime >= %L AND transaction_datetime < %L RETURNING *)'
+                    || ' INSERT INTO %I SELECT * FROM moved',
+                DEFAULT_NAME, START_DATE, END_DATE, PARTITION_NAME);
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                PARENT_TABLE, PARTITION_NAME, START_DATE, END_DATE);
+    ELSE
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                PARTITION_NAME, PARENT_TABLE, START_DATE, END_DATE);
+    END IF;
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the partitions of PARENT_TABLE from the current month to MONTHS_AHEAD months ahead, plus one for
+-- every month that has rows in the default partition. Returns the number of partitions created.
+-- Concurrent runs for the same table are serialized by a transaction scoped advisory lock.
+CREATE OR REPLACE FUNCTION ENSURE_MONTHLY_PARTITIONS(PARENT_TABLE TEXT, MONTHS_AHEAD INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    PARTITION_MONTH DATE;
+    CREATED INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_monthly_partitions:' || PARENT_TABLE));
+
+    FOR PARTITION_MONTH IN EXECUTE format(
+            'SELECT generate_series(date_trunc(''month'', now()), date_trunc(''month'', now()) + make_interval(months => %s), INTERVAL ''1 month'')::date'
+                || ' UNION SELECT DISTINCT date_trunc(''month'', transaction_datetime)::date FROM %I',
+            MONTHS_AHEAD, PARENT_TABLE || '_default')
+    LOOP
+        IF CREATE_MONTHLY_PARTITION(PARENT_TABLE, PARTITION_MONTH) THEN
+            CREATED := CREATED + 1;
+        END IF;
+    END LOOP;
+
+    RETURN CREATED;
+END;
+$$ LANGUAGE plpgsql;
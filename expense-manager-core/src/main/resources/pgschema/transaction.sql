@@ -1,17 +1,28 @@
+-- Range partitioned by month, partitions are created by ENSURE_MONTHLY_PARTITIONS (partition_functions.sql)
 CREATE TABLE TRANSACTIONS (
-	ID UUID PRIMARY KEY,
+	ID UUID NOT NULL,
 	LOGICAL_TRANSACTION_ID UUID,
 	VERSION_NUMBER BIGINT NOT NULL,
 	AMOUNT NUMERIC(12, 2) NOT NULL,
 	NOTE TEXT,
 	TRANSACTION_TYPE VARCHAR(50) NOT NULL,
-	ACCOUNT_ID BIGINT NOT NULL REFERENCES ACCOUNT (ID),
-	CATEGORY_ID BIGINT NOT NULL REFERENCES CATEGORY (ID),
+	ACCOUNT_ID BIGINT NOT NULL,
+	CATEGORY_ID BIGINT NOT NULL,
 	TRANSACTION_DATETIME TIMESTAMP NOT NULL,
 	CREATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
 	UPDATED_ON TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
 	IS_DELETED BOOLEAN DEFAULT FALSE,
-    CONSTRAINT FK_LOGICAL_TRANSACTION_ID FOREIGN KEY (LOGICAL_TRANSACTION_ID) REFERENCES LOGICAL_TRANSACTION(ID),
+    CONSTRAINT PK_TRANSACTIONS PRIMARY KEY (ID, TRANSACTION_DATETIME),
+    CONSTRAINT FK_LOGICAL_TRANSACTION_ID FOREIGN KEY (LOGICAL_TRANSACTION_ID) REFERENCES LOGICAL_TRANSACTION(ID) DEFERRABLE INITIALLY DEFERRED,
     CONSTRAINT FK_ACCOUNT_ID FOREIGN KEY (ACCOUNT_ID) REFERENCES ACCOUNT(ID),
     CONSTRAINT FK_CATEGORY_ID FOREIGN KEY (CATEGORY_ID) REFERENCES CATEGORY(ID)
-);
\ No newline at end of file
+) PARTITION BY RANGE (TRANSACTION_DATETIME);
+
+CREATE TABLE TRANSACTIONS_DEFAULT PARTITION OF TRANSACTIONS DEFAULT;
+
+CREATE INDEX IDX_TRANSACTIONS_ACCOUNT_DATETIME ON TRANSACTIONS (ACCOUNT_ID, TRANSACTION_DATETIME);
+CREATE INDEX IDX_TRANSACTIONS_DATETIME_ID ON TRANSACTIONS (TRANSACTION_DATETIME, ID);
+CREATE INDEX IDX_TRANSACTIONS_LOGICAL_TRANSACTION_ID ON TRANSACTIONS (LOGICAL_TRANSACTION_ID);
+
+-- Requires: CREATE EXTENSION IF NOT EXISTS PG_TRGM;
+CREATE INDEX IDX_TRANSACTIONS_NOTE_TRGM ON TRANSACTIONS USING GIN (LOWER(NOTE) GIN_TRGM_OPS);
\ No newline at end of file
@@ -0,0 +1,21 @@
+-- Range partitioned by month, partitions are created by ENSURE_MONTHLY_PARTITIONS (partition_functions.sql)
+CREATE TABLE TRANSACTIONS_HISTORY (
+	ID UUID NOT NULL,
+	LOGICAL_TRANSACTION_ID UUID,
+	VERSION_NUMBER BIGINT NOT NULL,
+	AMOUNT NUMERIC(12, 2) NOT NULL,
+	NOTE TEXT,
+	TRANSACTION_TYPE VARCHAR(50) NOT NULL,
+	ACCOUNT_ID BIGINT NOT NULL,
+	CATEGORY_ID BIGINT NOT NULL,
+	TRANSACTION_DATETIME TIMESTAMP NOT NULL,
+	CREATED_ON TIMESTAMP,
+	UPDATED_ON TIMESTAMP,
+	IS_DELETED BOOLEAN,
+	ARCHIVED_ON TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT PK_TRANSACTIONS_HISTORY PRIMARY KEY (ID, TRANSACTION_DATETIME)
+) PARTITION BY RANGE (TRANSACTION_DATETIME);
+
+CREATE TABLE TRANSACTIONS_HISTORY_DEFAULT PARTITION OF TRANSACTIONS_HISTORY DEFAULT;
+
+CREATE INDEX IDX_TRANSACTIONS_HISTORY_LOGICAL_VERSION ON TRANSACTIONS_HISTORY (LOGICAL_TRANSACTION_ID, VERSION_NUMBER);
@@ -0,0 +1,106 @@
+package dev.vishal.expensemanager.cache;
+
+import dev.vishal.expensemanager.dao.TransactionsDao;
+import dev.vishal.expensemanager.dto.NoteCountDto;
+import dev.vishal.expensemanager.dto.TransactionDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoteSuggestionCacheTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final TransactionsDao transactionsDao = mock(TransactionsDao.class);
+
+    @Test
+    void completeIndexAnswersFromMemory() {
+        when(transactionsDao.findNoteCounts(any())).thenReturn(notes("rent", "groceries"));
+        NoteSuggestionCache cache = cache(10, Duration.ofMinutes(30));
+
+        assertThat(cache.suggest(lookup("ren"))).containsExactly("rent");
+        assertThat(cache.suggest(lookup("gro"))).containsExactly("groceries");
+
+        verify(transactionsDao, times(1)).findNoteCounts(any());
+        verify(transactionsDao, never()).findNotes(any());
+    }
+
+    @Test
+    void truncatedIndexFallsBackToDatabaseWhenShortOfMatches() {
+        // One row more than the per-user limit, the index keeps two notes and is incomplete
+        when(transactionsDao.findNoteCounts(any())).thenReturn(notes("rent", "groceries", "rental car"));
+        when(transactionsDao.findNotes(any())).thenReturn(List.of("rent", "rental car"));
+        NoteSuggestionCache cache = cache(2, Duration.ofMinutes(30));
+
+        assertThat(cache.suggest(lookup("ren"))).containsExactly("rent", "rental car");
+        verify(transactionsDao).findNotes(any());
+    }
+
+    @Test
+    void loadRacingWithCommittedWriteIsNotCached() {
+        NoteSuggestionCache cache = cache(10, Duration.ofMinutes(30));
+        when(transactionsDao.findNoteCounts(any())).thenAnswer(invocation -> {
+            // A write commits while the counts are being read
+            cache.onNoteChanged(USER_ID, null, "rent");
+            return notes("groceries");
+        });
+
+        cache.suggest(lookup("gro"));
+        cache.suggest(lookup("gro"));
+
+        verify(transactionsDao, times(2)).findNoteCounts(any());
+    }
+
+    @Test
+    void changesAfterLoadAreAppliedToCachedIndex() {
+        when(transactionsDao.findNoteCounts(any())).thenReturn(notes("groceries"));
+        NoteSuggestionCache cache = cache(10, Duration.ofMinutes(30));
+
+        cache.suggest(lookup("gro"));
+        cache.onNoteChanged(USER_ID, "groceries", "grocery run");
+
+        assertThat(cache.suggest(lookup("gro"))).containsExactly("grocery run");
+        verify(transactionsDao, times(1)).findNoteCounts(any());
+    }
+
+    @Test
+    void expiredIndexIsReloaded() {
+        when(transactionsDao.findNoteCounts(any())).thenReturn(notes("rent"));
+        NoteSuggestionCache cache = cache(10, Duration.ZERO);
+
+        cache.suggest(lookup("ren"));
+        cache.suggest(lookup("ren"));
+
+        verify(transactionsDao, times(2)).findNoteCounts(any());
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private NoteSuggestionCache cache(int maxNotesPerUser, Duration expireAfterWrite) {
+        return new NoteSuggestionCache(transactionsDao, new SimpleMeterRegistry(), 100, maxNotesPerUser, expireAfterWrite);
+    }
+
+    private static TransactionDto lookup(String noteLike) {
+        return TransactionDto.builder().userId(USER_ID).noteLike(noteLike).build();
+    }
+
+    private static List<NoteCountDto> notes(String... notes) {
+        List<NoteCountDto> noteCounts = new ArrayList<>();
+        for (String note : notes) {
+            noteCounts.add(new NoteCountDto(note, 1L));
+        }
+        return noteCounts;
+    }
+}
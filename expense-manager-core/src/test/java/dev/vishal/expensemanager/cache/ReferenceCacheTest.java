@@ -0,0 +1,149 @@
+package dev.vishal.expensemanager.cache;
+
+import dev.vishal.expensemanager.configuration.CacheConfig;
+import dev.vishal.expensemanager.entity.Account;
+import dev.vishal.expensemanager.repository.AccountRepository;
+import dev.vishal.expensemanager.repository.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReferenceCacheTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final long ACCOUNT_ID = 1L;
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+
+    private ReferenceCache referenceCache;
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void deleteCommittedDuringLoadIsNotHiddenByTheLoadedRow() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch deleteCommitted = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        when(accountRepository.findById(ACCOUNT_ID)).thenAnswer(invocation -> {
+            if (loads.incrementAndGet() > 1) {
+                return Optional.of(account(true));
+            }
+            // The reader's SELECT sees the row as it was before the delete
+            loadStarted.countDown();
+            assertThat(deleteCommitted.await(5, TimeUnit.SECONDS)).isTrue();
+            return Optional.of(account(false));
+        });
+        startContext();
+
+        CompletableFuture<Account> reader = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> referenceCache.getAccount(USER_ID, ACCOUNT_ID)));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // As AccountServiceImpl.deleteAccount, the eviction is applied once the delete commits
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            deleteCommitted.countDown();
+                        }
+                    });
+                    referenceCache.evictAccount(USER_ID, ACCOUNT_ID);
+                }));
+
+        assertThat(reader.get(5, TimeUnit.SECONDS).getIsDeleted()).isFalse();
+        writer.get(5, TimeUnit.SECONDS);
+
+        assertThat(referenceCache.getAccount(USER_ID, ACCOUNT_ID).getIsDeleted()).isTrue();
+        verify(accountRepository, times(2)).findById(ACCOUNT_ID);
+    }
+
+    @Test
+    void loadInsideTransactionIsCachedBeforeItCommits() {
+        when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(account(false)));
+        startContext();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            referenceCache.getAccount(USER_ID, ACCOUNT_ID);
+            referenceCache.getAccount(USER_ID, ACCOUNT_ID);
+        });
+
+        verify(accountRepository, times(1)).findById(ACCOUNT_ID);
+    }
+
+    @Test
+    void accountOfAnotherUserIsNull() {
+        when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(account(false)));
+        startContext();
+
+        assertThat(referenceCache.getAccount(UUID.randomUUID(), ACCOUNT_ID)).isNull();
+        assertThat(referenceCache.getAccount(USER_ID, ACCOUNT_ID)).isNotNull();
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private void startContext() {
+        context.register(CacheConfig.class, ReferenceCache.class);
+        context.registerBean(AccountRepository.class, () -> accountRepository);
+        context.registerBean(CategoryRepository.class, () -> mock(CategoryRepository.class));
+        context.refresh();
+        referenceCache = context.getBean(ReferenceCache.class);
+    }
+
+    private static Account account(boolean deleted) {
+        Account account = new Account();
+        account.setId(ACCOUNT_ID);
+        account.setUserId(USER_ID);
+        account.setName("Cash");
+        account.setIsDeleted(deleted);
+        return account;
+    }
+
+    /**
+     * Runs transaction synchronizations like a real transaction manager, without a database.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package dev.vishal.expensemanager.cache;
+
+import dev.vishal.expensemanager.dto.NoteCountDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserNoteIndexTest {
+
+    @Test
+    void searchRanksPrefixMatchesBeforeContainsMatches() {
+        UserNoteIndex index = index(
+                note("iced coffee", 10),
+                note("coffee", 1),
+                note("Coffee beans", 3),
+                note("tea", 7));
+
+        assertThat(index.search("cof", 15)).containsExactly("Coffee beans", "coffee", "iced coffee");
+    }
+
+    @Test
+    void searchOrdersContainsMatchesByCount() {
+        UserNoteIndex index = index(
+                note("morning coffee", 2),
+                note("iced coffee", 5),
+                note("coffee", 1));
+
+        assertThat(index.search("coffee", 15)).containsExactly("coffee", "iced coffee", "morning coffee");
+    }
+
+    @Test
+    void searchStopsAtLimit() {
+        UserNoteIndex index = index(
+                note("rent", 1),
+                note("rent deposit", 4),
+                note("car rent", 9));
+
+        assertThat(index.search("rent", 2)).containsExactly("rent deposit", "rent");
+    }
+
+    @Test
+    void notesDifferingOnlyInCaseAreKeptApart() {
+        UserNoteIndex index = index(note("Gym", 1), note("gym", 2));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("gym", 15)).containsExactly("gym", "Gym");
+    }
+
+    @Test
+    void incrementRaisesCountAndAddsNewNotes() {
+        UserNoteIndex index = index(note("lunch", 1), note("lunch box", 2));
+
+        index.increment("lunch", 10);
+        index.increment("lunch", 10);
+        index.increment("lunch special", 10);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("lunch", 15)).containsExactly("lunch", "lunch box", "lunch special");
+        assertThat(index.isComplete()).isTrue();
+    }
+
+    @Test
+    void incrementOfNewNoteWhenFullMarksIndexTruncated() {
+        UserNoteIndex index = index(note("fuel", 1), note("food", 1));
+
+        index.increment("fees", 2);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("fees", 15)).isEmpty();
+        assertThat(index.isComplete()).isFalse();
+    }
+
+    @Test
+    void decrementLowersCountAndRemovesNoteAtZero() {
+        UserNoteIndex index = index(note("taxi", 1), note("taxi home", 3));
+
+        index.decrement("taxi home");
+        index.decrement("taxi");
+        index.decrement("unknown");
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("taxi", 15)).containsExactly("taxi home");
+        index.decrement("taxi home");
+        index.decrement("taxi home");
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void expiresOnceExpireAfterWriteHasPassed() {
+        UserNoteIndex index = new UserNoteIndex(List.of(), true, 1_000L);
+
+        assertThat(index.isExpired(1_999L, 1_000L)).isFalse();
+        assertThat(index.isExpired(2_000L, 1_000L)).isTrue();
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static UserNoteIndex index(NoteCountDto... noteCounts) {
+        return new UserNoteIndex(new ArrayList<>(List.of(noteCounts)), true, System.nanoTime());
+    }
+
+    private static NoteCountDto note(String note, long count) {
+        return new NoteCountDto(note, count);
+    }
+}
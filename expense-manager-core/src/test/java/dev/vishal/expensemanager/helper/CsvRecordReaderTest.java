@@ -0,0 +1,98 @@
+package dev.vishal.expensemanager.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void readsOneRecordPerLine() throws IOException {
+        CsvRecordReader records = reader("date,amount,note\n2024-01-05,-12.50,lunch\n");
+
+        assertThat(records.next()).containsExactly("date", "amount", "note");
+        assertThat(records.next()).containsExactly("2024-01-05", "-12.50", "lunch");
+        assertThat(records.next()).isNull();
+    }
+
+    @Test
+    void unquotedFieldsAreStripped() throws IOException {
+        CsvRecordReader records = reader("  cash , food ,\n");
+
+        assertThat(records.next()).containsExactly("cash", "food", "");
+    }
+
+    @Test
+    void quotedFieldsKeepLeadingAndTrailingSpaces() throws IOException {
+        CsvRecordReader records = reader("cash,  \"  padded note \"  ,food\n");
+
+        assertThat(records.next()).containsExactly("cash", "  padded note ", "food");
+    }
+
+    @Test
+    void quotedFieldsKeepCommasAndEscapedQuotes() throws IOException {
+        CsvRecordReader records = reader("\"rent, March\",\"the \"\"big\"\" one\"\n");
+
+        assertThat(records.next()).containsExactly("rent, March", "the \"big\" one");
+    }
+
+    @Test
+    void quotedFieldMaySpanLines() throws IOException {
+        CsvRecordReader records = reader("""
+                date,note,amount
+                2024-01-05,"first line
+                second line
+                ",-3
+                2024-01-06,plain,5
+                """);
+
+        records.next();
+        assertThat(records.next()).containsExactly("2024-01-05", "first line\nsecond line\n", "-3");
+        assertThat(records.getRecordLineNumber()).isEqualTo(2);
+        assertThat(records.next()).containsExactly("2024-01-06", "plain", "5");
+        assertThat(records.getRecordLineNumber()).isEqualTo(5);
+    }
+
+    @Test
+    void crLfLineBreaksInsideQuotesBecomeLf() throws IOException {
+        CsvRecordReader records = reader("\"a\r\nb\",c\r\n");
+
+        assertThat(records.next()).containsExactly("a\nb", "c");
+        assertThat(records.next()).isNull();
+    }
+
+    @Test
+    void unterminatedQuoteEndsAtEndOfInput() throws IOException {
+        CsvRecordReader records = reader("x,\"open\nstill open");
+
+        assertThat(records.next()).containsExactly("x", "open\nstill open");
+        assertThat(records.next()).isNull();
+    }
+
+    @Test
+    void blankLineIsSingleEmptyField() throws IOException {
+        CsvRecordReader records = reader("\n");
+
+        assertThat(records.next()).isEqualTo(List.of(""));
+    }
+
+    @Test
+    void exportedNotesRoundTrip() throws IOException {
+        // Quoting as written by TransactionExportServiceImpl.csvField
+        String note = " say \"hi\",\nthen leave ";
+        String exported = "DEBIT,\"" + note.replace("\"", "\"\"") + "\"\n";
+
+        assertThat(reader(exported).next()).containsExactly("DEBIT", note);
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static CsvRecordReader reader(String csv) {
+        return new CsvRecordReader(new BufferedReader(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,65 @@
+package dev.vishal.expensemanager.helper;
+
+import dev.common.exceptionutils.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionCursorTest {
+
+    @Test
+    void decodeReturnsEncodedPosition() {
+        LocalDateTime datetime = LocalDateTime.of(2024, 3, 15, 18, 30, 5, 123_000_000);
+        UUID transactionId = UUID.randomUUID();
+
+        TransactionCursor decoded = TransactionCursor.decode(new TransactionCursor(datetime, transactionId).encode());
+
+        assertThat(decoded.getTransactionDatetime()).isEqualTo(datetime);
+        assertThat(decoded.getTransactionId()).isEqualTo(transactionId);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String cursor = new TransactionCursor(LocalDateTime.of(2024, 1, 1, 0, 0), UUID.randomUUID()).encode();
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedBase64IsRejected() {
+        assertInvalid("not a cursor!");
+    }
+
+    @Test
+    void cursorWithoutSeparatorIsRejected() {
+        assertInvalid(encode("2024-01-01T00:00"));
+    }
+
+    @Test
+    void cursorWithBadDatetimeIsRejected() {
+        assertInvalid(encode("yesterday|" + UUID.randomUUID()));
+    }
+
+    @Test
+    void cursorWithBadIdIsRejected() {
+        assertInvalid(encode("2024-01-01T00:00|42"));
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> TransactionCursor.decode(cursor))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
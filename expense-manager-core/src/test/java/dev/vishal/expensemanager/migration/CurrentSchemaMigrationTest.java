@@ -0,0 +1,75 @@
+package dev.vishal.expensemanager.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Creates a schema by hand from the current pgschema files, then runs the Flyway chain on it. Every migration
+ * must be a no-op there, including the foreign key and partitioning changes the tables already carry.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CurrentSchemaMigrationTest {
+
+    // USERS comes from expense-manager-auth, pgschema files are applied in dependency order
+    private static final String USERS_DDL = """
+            CREATE TABLE USERS (
+                ID UUID PRIMARY KEY DEFAULT GEN_RANDOM_UUID(),
+                FIRST_NAME VARCHAR(255) NOT NULL,
+                LAST_NAME VARCHAR(255) NOT NULL,
+                EMAIL VARCHAR(255) NOT NULL,
+                PASSWORD VARCHAR(255) NOT NULL,
+                CREATED_ON TIMESTAMP NOT NULL,
+                UPDATED_ON TIMESTAMP NOT NULL,
+                IS_DELETED BOOLEAN NOT NULL DEFAULT FALSE
+            )
+            """;
+
+    private static final List<String> PGSCHEMA_FILES = List.of(
+            "account.sql", "category.sql", "logical_transaction.sql", "transaction.sql", "partition_functions.sql",
+            "transactions_history.sql", "current_transaction.sql", "monthly_rollup.sql");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    void migrationsApplyOnSchemaCreatedFromPgschema() throws IOException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS PG_TRGM");
+        jdbcTemplate.execute(USERS_DDL);
+        for (String file : PGSCHEMA_FILES) {
+            // Executed whole, the driver understands the dollar-quoted function bodies
+            jdbcTemplate.execute(new ClassPathResource("pgschema/" + file).getContentAsString(StandardCharsets.UTF_8));
+        }
+
+        MigrateResult result = Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        assertThat(result.success).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = 'transactions'::regclass", Integer.class))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_constraint WHERE conname = 'fk_transaction_id'", Integer.class))
+                .isZero();
+    }
+}
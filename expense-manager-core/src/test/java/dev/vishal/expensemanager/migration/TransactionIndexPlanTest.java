@@ -0,0 +1,161 @@
+package dev.vishal.expensemanager.migration;
+
+import dev.vishal.expensemanager.dao.TransactionsDaoImpl;
+import dev.vishal.expensemanager.dto.TransactionDto;
+import dev.vishal.expensemanager.dto.TransactionResponseDto;
+import dev.vishal.expensemanager.helper.TransactionCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migrates an empty database with the Flyway chain, fills the read model with a realistic spread of users and
+ * runs the queries {@link TransactionsDaoImpl#findTransactions} generates with default planner settings. Index
+ * usage is read from the statistics views around each call, so the check covers the SQL Hibernate actually sends
+ * with its bind values.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TransactionIndexPlanTest {
+
+    private static final int USERS = 200;
+    private static final int TRANSACTIONS_PER_USER = 500;
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final long ACCOUNT_ID = 10L;
+
+    // Two years of history per user, ids follow the user so every user owns 3 accounts and 8 categories
+    private static final String SEED_SQL = """
+            INSERT INTO current_transaction (logical_transaction_id, user_id, transaction_id, amount, note,
+                    transaction_type, transaction_datetime, account_id, account_name, category_id, category_name,
+                    created_on, updated_on)
+            SELECT gen_random_uuid(), ('00000000-0000-0000-0000-' || lpad(u::text, 12, '0'))::uuid,
+                    gen_random_uuid(), (random() * 500)::numeric(12, 2), 'note ' || i,
+                    CASE WHEN i % 5 = 0 THEN 'CREDIT' ELSE 'DEBIT' END,
+                    TIMESTAMP '2022-01-01' + random() * INTERVAL '730 days',
+                    u * 10 + i % 3, 'Account ' || i % 3, u * 100 + i % 8, 'Category ' || i % 8, now(), now()
+            FROM generate_series(1, ?) u, generate_series(1, ?) i
+            """;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static EntityManagerFactory entityManagerFactory;
+    private static EntityManager entityManager;
+    private static TransactionsDaoImpl transactionsDao;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        // One connection for Hibernate and the statistics reads, a backend always sees its own flushed counters
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.update(SEED_SQL, USERS, TRANSACTIONS_PER_USER);
+        jdbcTemplate.execute("ANALYZE current_transaction");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("dev.vishal.expensemanager.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+
+        transactionsDao = new TransactionsDaoImpl(jdbcTemplate);
+        ReflectionTestUtils.setField(transactionsDao, "entityManager", entityManager);
+    }
+
+    @AfterAll
+    static void close() {
+        if (entityManager != null) {
+            entityManager.close();
+            entityManagerFactory.close();
+        }
+    }
+
+    @Test
+    void firstPageUsesCurrentTransactionUserIndex() {
+        long userIndexScans = indexScans("idx_current_transaction_user_datetime");
+        long seqScans = seqScans();
+
+        List<TransactionResponseDto> page = transactionsDao.findTransactions(TransactionDto.builder()
+                .userId(USER_ID)
+                .count(20L)
+                .orderByAsc(false)
+                .build());
+
+        assertThat(page).hasSize(20);
+        assertThat(indexScans("idx_current_transaction_user_datetime")).isGreaterThan(userIndexScans);
+        assertThat(seqScans()).isEqualTo(seqScans);
+    }
+
+    @Test
+    void filteredNextPageDoesNotScanTheReadModel() {
+        TransactionDto.TransactionDtoBuilder filter = TransactionDto.builder()
+                .userId(USER_ID)
+                .startTime(LocalDateTime.of(2022, 6, 1, 0, 0))
+                .endTime(LocalDateTime.of(2023, 6, 1, 0, 0))
+                .accounts(List.of(ACCOUNT_ID))
+                .count(20L)
+                .orderByAsc(false);
+        TransactionResponseDto last = transactionsDao.findTransactions(filter.build()).get(19);
+        String cursor = new TransactionCursor(last.getTransactionDatetime(), last.getTransactionId()).encode();
+
+        long tableIndexScans = tableIndexScans();
+        long seqScans = seqScans();
+
+        List<TransactionResponseDto> page = transactionsDao.findTransactions(filter.cursor(cursor).build());
+
+        assertThat(page).isNotEmpty().allMatch(transaction -> transaction.getAccountId() == ACCOUNT_ID);
+        assertThat(tableIndexScans()).isGreaterThan(tableIndexScans);
+        assertThat(seqScans()).isEqualTo(seqScans);
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static long indexScans(String indexName) {
+        flushStatistics();
+        return jdbcTemplate.queryForObject(
+                "SELECT idx_scan FROM pg_stat_user_indexes WHERE indexrelname = ?", Long.class, indexName);
+    }
+
+    private static long tableIndexScans() {
+        flushStatistics();
+        return jdbcTemplate.queryForObject(
+                "SELECT idx_scan FROM pg_stat_user_tables WHERE relname = 'current_transaction'", Long.class);
+    }
+
+    private static long seqScans() {
+        flushStatistics();
+        return jdbcTemplate.queryForObject(
+                "SELECT seq_scan FROM pg_stat_user_tables WHERE relname = 'current_transaction'", Long.class);
+    }
+
+    private static void flushStatistics() {
+        // A backend publishes its counters when it goes idle, at most once a second unless forced
+        jdbcTemplate.queryForObject("SELECT pg_stat_force_next_flush()", Object.class);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.vishal.expensemanager.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.vishal.expensemanager.cache.CategoryTree;
+import dev.vishal.expensemanager.cache.CategoryTreeCache;
+import dev.vishal.expensemanager.cache.ReferenceCache;
+import dev.vishal.expensemanager.entity.Category;
+import dev.vishal.expensemanager.repository.CategoryRepository;
+import dev.vishal.expensemanager.repository.CurrentTransactionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CategoryServiceImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final CategoryTreeCache categoryTreeCache = mock(CategoryTreeCache.class);
+    private final CategoryServiceImpl categoryService = new CategoryServiceImpl(mock(CategoryRepository.class),
+            mock(CurrentTransactionRepository.class), mock(ReferenceCache.class), categoryTreeCache);
+
+    @Test
+    void cachedReadsKeepTheEntityResponseShape() {
+        Category food = category(10L, "Food", null);
+        when(categoryTreeCache.getTree(USER_ID)).thenReturn(new CategoryTree(List.of(food)));
+
+        JsonNode read = objectMapper.valueToTree(categoryService.getCategory(10L, USER_ID));
+
+        // Same properties and values as the entity returned by create and update
+        assertThat(read).isEqualTo(objectMapper.valueToTree(food));
+        assertThat(read.has("isDeleted")).isTrue();
+        assertThat(read.has("createdOn")).isTrue();
+    }
+
+    @Test
+    void changesToReturnedCategoriesDoNotReachTheCache() {
+        when(categoryTreeCache.getTree(USER_ID))
+                .thenReturn(new CategoryTree(List.of(category(10L, "Food", null), category(11L, "Groceries", 10L))));
+
+        categoryService.getAllCategories(USER_ID).forEach(category -> category.setName("changed"));
+
+        assertThat(categoryService.getCategoryByParent(10L, USER_ID))
+                .extracting(Category::getName).containsExactly("Groceries");
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static Category category(Long id, String name, Long parentCategoryId) {
+        Category category = new Category();
+        category.setId(id);
+        category.setUserId(USER_ID);
+        category.setName(name);
+        category.setParentCategoryId(parentCategoryId);
+        category.setCreatedOn(LocalDateTime.of(2024, 1, 5, 9, 30));
+        category.setUpdatedOn(LocalDateTime.of(2024, 2, 1, 18, 0));
+        category.setIsDeleted(false);
+        return category;
+    }
+}
@@ -0,0 +1,111 @@
+package dev.vishal.expensemanager.service;
+
+import dev.vishal.expensemanager.dao.MonthlyRollupDao;
+import dev.vishal.expensemanager.dto.MonthlyReportDto;
+import dev.vishal.expensemanager.dto.ReportDto;
+import dev.vishal.expensemanager.dto.ReportGroup;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReportServiceImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final YearMonth DEC = YearMonth.of(2023, 12);
+    private static final YearMonth JAN = YearMonth.of(2024, 1);
+    private static final YearMonth FEB = YearMonth.of(2024, 2);
+    private static final YearMonth MAR = YearMonth.of(2024, 3);
+    private static final YearMonth APR = YearMonth.of(2024, 4);
+
+    private final MonthlyRollupDao monthlyRollupDao = mock(MonthlyRollupDao.class);
+    private final ReportServiceImpl reportService = new ReportServiceImpl(monthlyRollupDao);
+
+    @Test
+    void firstMonthIsComparedWithTheMonthBeforeTheRange() {
+        givenTotals(row(DEC, null, "100"), row(JAN, null, "40"), row(FEB, null, "70"));
+
+        List<MonthlyReportDto> report = reportService.getMonthlyReport(report(JAN, FEB, null));
+
+        verify(monthlyRollupDao).findMonthlyTotals(USER_ID, DEC, FEB, null);
+        assertThat(report).extracting(MonthlyReportDto::getMonth, MonthlyReportDto::getNetChange)
+                .containsExactly(tuple(JAN, new BigDecimal("-60")), tuple(FEB, new BigDecimal("30")));
+    }
+
+    @Test
+    void monthAfterAGapIsComparedWithZero() {
+        // February had no transactions, so its net is zero rather than January's
+        givenTotals(row(JAN, null, "100"), row(MAR, null, "40"), row(APR, null, "-10"));
+
+        List<MonthlyReportDto> report = reportService.getMonthlyReport(report(JAN, APR, null));
+
+        assertThat(report).extracting(MonthlyReportDto::getMonth, MonthlyReportDto::getNetChange)
+                .containsExactly(
+                        tuple(JAN, new BigDecimal("100")),
+                        tuple(MAR, new BigDecimal("40")),
+                        tuple(APR, new BigDecimal("-50")));
+    }
+
+    @Test
+    void lookbackMonthOutsideTheGapIsIgnored() {
+        // December is the lookback month but January is empty, February starts afresh
+        givenTotals(row(DEC, null, "100"), row(FEB, null, "25"));
+
+        List<MonthlyReportDto> report = reportService.getMonthlyReport(report(JAN, FEB, null));
+
+        assertThat(report).extracting(MonthlyReportDto::getMonth, MonthlyReportDto::getNetChange)
+                .containsExactly(tuple(FEB, new BigDecimal("25")));
+    }
+
+    @Test
+    void groupsAreComparedWithTheirOwnPreviousMonth() {
+        givenTotals(
+                row(JAN, 1L, "100"), row(JAN, 2L, "-30"),
+                row(FEB, 1L, "80"), row(FEB, 3L, "15"),
+                row(APR, 1L, "5"));
+
+        List<MonthlyReportDto> report = reportService.getMonthlyReport(report(FEB, APR, "account"));
+
+        verify(monthlyRollupDao).findMonthlyTotals(USER_ID, JAN, APR, ReportGroup.ACCOUNT);
+        assertThat(report)
+                .extracting(MonthlyReportDto::getMonth, MonthlyReportDto::getAccountId, MonthlyReportDto::getNetChange)
+                .containsExactly(
+                        tuple(FEB, 1L, new BigDecimal("-20")),
+                        // new in February
+                        tuple(FEB, 3L, new BigDecimal("15")),
+                        // March is empty
+                        tuple(APR, 1L, new BigDecimal("5")));
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private void givenTotals(MonthlyReportDto... rows) {
+        when(monthlyRollupDao.findMonthlyTotals(any(), any(), any(), any())).thenReturn(List.of(rows));
+    }
+
+    private static ReportDto report(YearMonth fromMonth, YearMonth toMonth, String groupBy) {
+        ReportDto dto = new ReportDto();
+        dto.setUserId(USER_ID);
+        dto.setFromMonth(fromMonth);
+        dto.setToMonth(toMonth);
+        dto.setGroupBy(groupBy);
+        return dto;
+    }
+
+    private static MonthlyReportDto row(YearMonth month, Long accountId, String net) {
+        MonthlyReportDto row = new MonthlyReportDto();
+        row.setMonth(month);
+        row.setAccountId(accountId);
+        row.setNet(new BigDecimal(net));
+        return row;
+    }
+}
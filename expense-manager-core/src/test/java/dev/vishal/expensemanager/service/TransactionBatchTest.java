@@ -0,0 +1,273 @@
+package dev.vishal.expensemanager.service;
+
+import dev.common.exceptionutils.exceptions.ConflictException;
+import dev.vishal.expensemanager.cache.NoteSuggestionCache;
+import dev.vishal.expensemanager.cache.ReferenceCache;
+import dev.vishal.expensemanager.dao.MonthlyRollupDao;
+import dev.vishal.expensemanager.dao.TransactionsDao;
+import dev.vishal.expensemanager.dto.OwnedReferencesDto;
+import dev.vishal.expensemanager.dto.TransactionBatchDto;
+import dev.vishal.expensemanager.dto.TransactionBatchResultDto;
+import dev.vishal.expensemanager.dto.TransactionDto;
+import dev.vishal.expensemanager.entity.LogicalTransaction;
+import dev.vishal.expensemanager.entity.Transactions;
+import dev.vishal.expensemanager.repository.AccountRepository;
+import dev.vishal.expensemanager.repository.CurrentTransactionRepository;
+import dev.vishal.expensemanager.repository.LogicalTransactionRepository;
+import dev.vishal.expensemanager.repository.TransactionsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransactionBatchTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final long CASH = 1L;
+    private static final long BANK = 2L;
+    private static final long FOREIGN_ACCOUNT = 9L;
+    private static final long FOOD = 10L;
+    private static final LocalDateTime DATETIME = LocalDateTime.of(2024, 3, 15, 12, 0);
+
+    private final TransactionsRepository transactionsRepository = mock(TransactionsRepository.class);
+    private final LogicalTransactionRepository logicalTransactionRepository = mock(LogicalTransactionRepository.class);
+    private final CurrentTransactionRepository currentTransactionRepository = mock(CurrentTransactionRepository.class);
+    private final TransactionsDao transactionsDao = mock(TransactionsDao.class);
+    private final MonthlyRollupDao monthlyRollupDao = mock(MonthlyRollupDao.class);
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final NoteSuggestionCache noteSuggestionCache = mock(NoteSuggestionCache.class);
+
+    private final TransactionServiceImpl transactionService = new TransactionServiceImpl(
+            transactionsRepository, logicalTransactionRepository, currentTransactionRepository, transactionsDao,
+            monthlyRollupDao, accountRepository, noteSuggestionCache, mock(ReferenceCache.class));
+
+    @BeforeEach
+    void setUp() {
+        when(transactionsDao.findOwnedReferences(eq(USER_ID), anyCollection(), anyCollection()))
+                .thenReturn(new OwnedReferencesDto(Set.of(CASH, BANK), Set.of(FOOD)));
+
+        // Every pointer still references the version read at the start
+        when(transactionsDao.repointLogicalTransactions(anyMap(), anyMap()))
+                .thenAnswer(invocation -> invocation.<Map<?, ?>>getArgument(0).size());
+        when(transactionsDao.softDeleteLogicalTransactions(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+    }
+
+    @Test
+    void eachOperationGetsItsOwnResult() {
+        Transactions lunch = existing(CASH, "-10");
+        Transactions taxi = existing(CASH, "-20");
+        givenCurrentVersions(lunch, taxi);
+        UUID unknownId = UUID.randomUUID();
+
+        List<TransactionBatchResultDto> results = transactionService.applyBatch(batch(
+                create(CASH, "DEBIT", "5"),
+                operation("RENAME", null),
+                delete(unknownId),
+                delete(lunch.getLogicalTransactionId()),
+                delete(lunch.getLogicalTransactionId()),
+                update(taxi.getLogicalTransactionId(), CASH, "DEBIT", "20")));
+
+        assertThat(results).extracting(TransactionBatchResultDto::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(results).extracting(TransactionBatchResultDto::isSuccess)
+                .containsExactly(true, false, false, true, false, true);
+        assertThat(results).extracting(TransactionBatchResultDto::getMessage).containsExactly(
+                null,
+                "RENAME is not a valid operation!",
+                "Transaction not found",
+                null,
+                "Transaction not found",
+                null);
+
+        assertThat(results.get(0).getId()).isNotNull();
+        assertThat(results.get(2).getId()).isEqualTo(unknownId);
+        assertThat(results.get(3).getId()).isEqualTo(lunch.getLogicalTransactionId());
+    }
+
+    @Test
+    void unownedReferencesFailOnlyTheirOperation() {
+        List<TransactionBatchResultDto> results = transactionService.applyBatch(batch(
+                create(FOREIGN_ACCOUNT, "DEBIT", "5"),
+                create(CASH, "DEBIT", "7")));
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getMessage()).isEqualTo("Account not found or deleted");
+        assertThat(results.get(1).isSuccess()).isTrue();
+
+        List<Transactions> inserted = captureInserted();
+        assertThat(inserted).singleElement().satisfies(txn -> assertThat(txn.getAccountId()).isEqualTo(CASH));
+        verify(accountRepository).addToBalance(CASH, new BigDecimal("-7"));
+        verify(accountRepository, never()).addToBalance(eq(FOREIGN_ACCOUNT), any());
+    }
+
+    @Test
+    void unchangedUpdateWritesNothing() {
+        Transactions lunch = existing(CASH, "-10");
+        givenCurrentVersions(lunch);
+
+        List<TransactionBatchResultDto> results = transactionService.applyBatch(batch(
+                update(lunch.getLogicalTransactionId(), CASH, "DEBIT", "10")));
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        verify(transactionsDao, never()).insertTransactionVersions(anyList());
+        verify(accountRepository, never()).addToBalance(any(), any());
+        verify(monthlyRollupDao, never()).replaceTransactions(any(), any(), any());
+    }
+
+    @Test
+    void balanceAndRollupDeltasCoverTheWholeBatch() {
+        Transactions lunch = existing(CASH, "-10");
+        Transactions rent = existing(BANK, "-500");
+        givenCurrentVersions(lunch, rent);
+
+        transactionService.applyBatch(batch(
+                // moves 25 of spending from cash to the bank
+                update(lunch.getLogicalTransactionId(), BANK, "DEBIT", "25"),
+                create(CASH, "CREDIT", "5"),
+                delete(rent.getLogicalTransactionId())));
+
+        // Cash: +10 reversed lunch, +5 salary. Bank: -25 moved lunch, +500 reversed rent. Account id order
+        InOrder balances = inOrder(accountRepository);
+        balances.verify(accountRepository).addToBalance(CASH, new BigDecimal("15"));
+        balances.verify(accountRepository).addToBalance(BANK, new BigDecimal("475"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Transactions>> removed = ArgumentCaptor.forClass(Collection.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Transactions>> added = ArgumentCaptor.forClass(Collection.class);
+        verify(monthlyRollupDao).replaceTransactions(eq(USER_ID), removed.capture(), added.capture());
+
+        assertThat(removed.getValue()).containsExactlyInAnyOrder(lunch, rent);
+        assertThat(added.getValue()).extracting(Transactions::getAccountId, Transactions::getAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(BANK, new BigDecimal("-25")),
+                        tuple(CASH, new BigDecimal("5")));
+        verify(noteSuggestionCache).evict(USER_ID);
+    }
+
+    @Test
+    void laterOperationsSeeEarlierOnes() {
+        Transactions lunch = existing(CASH, "-10");
+        givenCurrentVersions(lunch);
+
+        transactionService.applyBatch(batch(
+                update(lunch.getLogicalTransactionId(), CASH, "DEBIT", "12"),
+                update(lunch.getLogicalTransactionId(), CASH, "DEBIT", "15")));
+
+        // Net effect of both updates against the version read at the start
+        verify(accountRepository).addToBalance(CASH, new BigDecimal("-5"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transactions>> versions = ArgumentCaptor.forClass(List.class);
+        verify(transactionsDao).insertTransactionVersions(versions.capture());
+        assertThat(versions.getValue()).extracting(Transactions::getVersionNumber).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void concurrentRepointFailsTheBatchBeforeAnyDelta() {
+        Transactions lunch = existing(CASH, "-10");
+        givenCurrentVersions(lunch);
+        when(transactionsDao.repointLogicalTransactions(anyMap(), anyMap())).thenReturn(0);
+
+        assertThatThrownBy(() -> transactionService.applyBatch(batch(
+                update(lunch.getLogicalTransactionId(), CASH, "DEBIT", "12"))))
+                .isInstanceOf(ConflictException.class);
+
+        verify(accountRepository, never()).addToBalance(any(), any());
+        verify(monthlyRollupDao, never()).replaceTransactions(any(), any(), any());
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private void givenCurrentVersions(Transactions... transactions) {
+        List<LogicalTransaction> logicalTransactions = Arrays.stream(transactions).map(txn -> {
+            LogicalTransaction logicalTransaction = new LogicalTransaction();
+            logicalTransaction.setId(txn.getLogicalTransactionId());
+            logicalTransaction.setTransactionId(txn.getId());
+            logicalTransaction.setUserId(USER_ID);
+            logicalTransaction.setIsDeleted(false);
+            return logicalTransaction;
+        }).toList();
+
+        when(logicalTransactionRepository.findAllByIdForUpdate(anyCollection())).thenReturn(logicalTransactions);
+        when(transactionsRepository.findAllById(any())).thenReturn(List.of(transactions));
+    }
+
+    private List<Transactions> captureInserted() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transactions>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(transactionsDao).insertTransactions(eq(USER_ID), inserted.capture());
+        return inserted.getValue();
+    }
+
+    private static Transactions existing(long accountId, String signedAmount) {
+        Transactions transaction = new Transactions();
+        transaction.setId(UUID.randomUUID());
+        transaction.setLogicalTransactionId(UUID.randomUUID());
+        transaction.setVersionNumber(0L);
+        transaction.setAmount(new BigDecimal(signedAmount));
+        transaction.setNote("note");
+        transaction.setTransactionType(signedAmount.startsWith("-") ? "DEBIT" : "CREDIT");
+        transaction.setAccountId(accountId);
+        transaction.setCategoryId(FOOD);
+        transaction.setTransactionDatetime(DATETIME);
+        transaction.setIsDeleted(false);
+        return transaction;
+    }
+
+    private static TransactionBatchDto batch(TransactionDto... operations) {
+        TransactionBatchDto dto = new TransactionBatchDto();
+        dto.setUserId(USER_ID);
+        dto.setOperations(List.of(operations));
+        return dto;
+    }
+
+    private static TransactionDto create(long accountId, String transactionType, String amount) {
+        return fields(operation("CREATE", null), accountId, transactionType, amount);
+    }
+
+    private static TransactionDto update(UUID id, long accountId, String transactionType, String amount) {
+        return fields(operation("UPDATE", id), accountId, transactionType, amount);
+    }
+
+    private static TransactionDto delete(UUID id) {
+        return operation("DELETE", id);
+    }
+
+    private static TransactionDto operation(String operation, UUID id) {
+        return TransactionDto.builder().userId(USER_ID).operation(operation).id(id).build();
+    }
+
+    private static TransactionDto fields(TransactionDto dto, long accountId, String transactionType, String amount) {
+        dto.setAccountId(accountId);
+        dto.setCategoryId(FOOD);
+        dto.setTransactionType(transactionType);
+        dto.setAmount(new BigDecimal(amount));
+        dto.setNote("note");
+        dto.setTransactionDatetime(DATETIME);
+        return dto;
+    }
+}
@@ -0,0 +1,91 @@
+package dev.vishal.expensemanager.service;
+
+import dev.vishal.expensemanager.cache.NoteSuggestionCache;
+import dev.vishal.expensemanager.dao.MonthlyRollupDao;
+import dev.vishal.expensemanager.dao.MonthlyRollupDeltas;
+import dev.vishal.expensemanager.dao.TransactionsDao;
+import dev.vishal.expensemanager.dto.TransactionImportResultDto;
+import dev.vishal.expensemanager.entity.Account;
+import dev.vishal.expensemanager.entity.Category;
+import dev.vishal.expensemanager.repository.AccountRepository;
+import dev.vishal.expensemanager.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransactionImportServiceImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final TransactionsDao transactionsDao = mock(TransactionsDao.class);
+    private final MonthlyRollupDao monthlyRollupDao = mock(MonthlyRollupDao.class);
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+
+    private final TransactionImportServiceImpl importService = new TransactionImportServiceImpl(
+            transactionsDao, monthlyRollupDao, accountRepository, categoryRepository, mock(NoteSuggestionCache.class));
+
+    @Test
+    void balancesAreUpdatedBeforeRollups() {
+        when(accountRepository.findAllByUserIdAndIsDeletedFalseOrderByName(USER_ID))
+                .thenReturn(List.of(account(1L, "Cash"), account(2L, "Bank")));
+        when(categoryRepository.findByUserIdAndIsDeletedFalseOrderByName(USER_ID))
+                .thenReturn(List.of(category(10L, "Food")));
+
+        TransactionImportResultDto result = importService.importCsv(USER_ID, csv("""
+                date,amount,type,account,category,note
+                2024-01-05,12.50,DEBIT,Cash,Food,lunch
+                2024-02-01,100,CREDIT,Bank,Food,refund
+                2024-02-03,7.50,DEBIT,Cash,Food,coffee
+                """));
+
+        assertThat(result.getImportedRows()).isEqualTo(3);
+
+        // Same lock order as the single-transaction writes: account rows first, rollup rows last
+        InOrder order = inOrder(transactionsDao, accountRepository, monthlyRollupDao);
+        order.verify(transactionsDao).insertTransactions(eq(USER_ID), anyList());
+        order.verify(accountRepository).addToBalance(1L, new BigDecimal("-20.00"));
+        order.verify(accountRepository).addToBalance(2L, new BigDecimal("100"));
+        order.verify(monthlyRollupDao).applyDeltas(eq(USER_ID), any(MonthlyRollupDeltas.class));
+        verify(monthlyRollupDao, never()).addTransactions(any(), any());
+    }
+
+    // ------------------ Helper methods ------------------
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Account account(Long id, String name) {
+        Account account = new Account();
+        account.setId(id);
+        account.setUserId(USER_ID);
+        account.setName(name);
+        account.setIsDeleted(false);
+        return account;
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = new Category();
+        category.setId(id);
+        category.setUserId(USER_ID);
+        category.setName(name);
+        category.setIsDeleted(false);
+        return category;
+    }
+}